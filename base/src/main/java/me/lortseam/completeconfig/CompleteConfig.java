@@ -1,7 +1,9 @@
 package me.lortseam.completeconfig;
 
 import com.google.common.collect.Sets;
+import lombok.EqualsAndHashCode;
 import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
 import lombok.experimental.UtilityClass;
 import lombok.extern.slf4j.Slf4j;
 import me.lortseam.completeconfig.data.extension.DataExtension;
@@ -18,6 +20,7 @@ import org.jetbrains.annotations.Nullable;
 
 import java.lang.reflect.InvocationTargetException;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -27,6 +30,9 @@ public final class CompleteConfig {
 
     private static final Set<Class<? extends Extension>> validExtensionTypes = Sets.newHashSet(DataExtension.class);
     private static final Set<Extension> extensions = new HashSet<>();
+    private static volatile int extensionsVersion;
+    private static final Map<Class<? extends Extension>, List<? extends Extension>> extensionIndex = new ConcurrentHashMap<>();
+    private static final Map<CollectionKey, Collection<?>> collectionIndex = new ConcurrentHashMap<>();
 
     static {
         registerExtensionType(ClientDataExtension.class, EnvType.CLIENT);
@@ -79,8 +85,11 @@ public final class CompleteConfig {
         }
     }
 
-    private static void registerExtension(Extension extension) {
+    static void registerExtension(Extension extension) {
         extensions.add(extension);
+        extensionIndex.clear();
+        collectionIndex.clear();
+        extensionsVersion++;
         registerExtensions(extension.children());
     }
 
@@ -98,8 +107,57 @@ public final class CompleteConfig {
         registerExtension(extension);
     }
 
+    /**
+     * Returns a counter which changes whenever an extension is registered. Can be used to invalidate data derived from
+     * extensions.
+     *
+     * @return the current extensions version
+     */
+    public static int getExtensionsVersion() {
+        return extensionsVersion;
+    }
+
+    /**
+     * Gets all registered extensions of a type. The returned list is immutable and stays the same until another
+     * extension is registered, so it may be cached by callers.
+     *
+     * @param extensionType the extension type
+     * @return the extensions of that type
+     */
+    public static <E extends Extension> List<E> getExtensions(@NonNull Class<E> extensionType) {
+        return (List<E>) extensionIndex.computeIfAbsent(extensionType, type -> extensions.stream().filter(type::isInstance).map(type::cast).collect(Collectors.toUnmodifiableList()));
+    }
+
+    /**
+     * Collects the non-null results of a function applied to all registered extensions of a type. The results are cached
+     * per extension type and function until another extension is registered, so the function must return the same
+     * result for an extension every time.
+     *
+     * @param extensionType the extension type
+     * @param function the function to apply to the extensions
+     * @return an immutable collection of the distinct results
+     */
     public static <E extends Extension, T> Collection<T> collectExtensions(Class<E> extensionType, Function<E, T> function) {
-        return extensions.stream().filter(extensionType::isInstance).map(extension -> function.apply((E) extension)).filter(Objects::nonNull).collect(Collectors.toSet());
+        return (Collection<T>) collectionIndex.computeIfAbsent(new CollectionKey(extensionType, function), key -> {
+            List<E> typeExtensions = getExtensions(extensionType);
+            Set<T> results = new LinkedHashSet<>(typeExtensions.size());
+            for (E extension : typeExtensions) {
+                T result = function.apply(extension);
+                if (result != null) {
+                    results.add(result);
+                }
+            }
+            return Collections.unmodifiableSet(results);
+        });
+    }
+
+    @RequiredArgsConstructor
+    @EqualsAndHashCode
+    private static final class CollectionKey {
+
+        private final Class<? extends Extension> extensionType;
+        private final Function<?, ?> function;
+
     }
 
 }
@@ -1,5 +1,7 @@
 package me.lortseam.completeconfig.api;
 
+import me.lortseam.completeconfig.data.Config;
+import me.lortseam.completeconfig.data.Entry;
 import org.jetbrains.annotations.Nullable;
 
 import java.lang.annotation.ElementType;
@@ -43,6 +45,18 @@ public interface ConfigContainer {
      */
     default void onContainerEntryUpdate() {}
 
+    /**
+     * Called when entries of this container get updated. Updates made in a batch are reported by a single call.
+     * Defaults to calling {@link #onContainerEntryUpdate()}.
+     *
+     * @param entries the updated entries
+     *
+     * @see Config#startBatch()
+     */
+    default void onContainerEntriesUpdate(Collection<Entry<?>> entries) {
+        onContainerEntryUpdate();
+    }
+
     /**
      * Applied to declare that a field or a nested class of type {@link ConfigContainer} is transitive.
      *
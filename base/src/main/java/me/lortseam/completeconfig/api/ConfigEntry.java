@@ -53,6 +53,16 @@ public @interface ConfigEntry {
      */
     boolean requiresRestart() default false;
 
+    /**
+     * Specifies whether the entry is synchronized from servers to clients. All entries of configs with sync enabled are
+     * synchronized regardless of this parameter.
+     *
+     * @return whether the entry is synchronized
+     *
+     * @see me.lortseam.completeconfig.data.ConfigSyncServer
+     */
+    boolean synced() default false;
+
     /**
      * Can be applied to an entry of type Boolean.
      */
@@ -0,0 +1,41 @@
+package me.lortseam.completeconfig.data;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Reads and writes the value of an entry of type {@code boolean} or {@link Boolean} without boxing it. The type of the
+ * entry is checked once when the access is created.
+ *
+ * @see Entry#asBoolean()
+ */
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+public final class BooleanAccess {
+
+    @Getter
+    private final Entry<Boolean> entry;
+
+    /**
+     * Returns the value of the entry.
+     *
+     * @return the current value
+     *
+     * @see Entry#getValue()
+     */
+    public boolean get() {
+        return entry.getBoolean();
+    }
+
+    /**
+     * Sets the value of the entry.
+     *
+     * @param value the new value
+     *
+     * @see Entry#setValue(Object)
+     */
+    public void set(boolean value) {
+        entry.setBoolean(value);
+    }
+
+}
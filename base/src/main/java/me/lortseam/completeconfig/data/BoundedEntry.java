@@ -4,25 +4,54 @@ import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import me.lortseam.completeconfig.util.NumberUtils;
 
+import java.util.Comparator;
+import java.util.function.UnaryOperator;
+
 @Slf4j(topic = "CompleteConfig")
 public class BoundedEntry<T extends Number> extends Entry<T> {
 
-    @Getter
-    private final T min, max;
-
-    public BoundedEntry(EntryOrigin origin, T min, T max) {
-        super(origin, value -> {
-            if (NumberUtils.compare(value, min) < 0) {
+    private static <T extends Number> UnaryOperator<T> createRevisor(EntryOrigin origin, T min, T max, Comparator<T> comparator) {
+        return value -> {
+            if (comparator.compare(value, min) < 0) {
                 logger.warn("Tried to set value of field " + origin.getField() + " to a value less than lower bound, setting to minimum now");
                 return min;
-            } else if (NumberUtils.compare(value, max) > 0) {
+            } else if (comparator.compare(value, max) > 0) {
                 logger.warn("Tried to set value of field " + origin.getField() + " to a value greater than upper bound, setting to maximum now");
                 return max;
             }
             return value;
-        });
+        };
+    }
+
+    @Getter
+    private final T min, max;
+
+    /**
+     * Creates a bounded entry whose values are compared by the specified comparator.
+     *
+     * @param origin the entry origin
+     * @param min the lower bound
+     * @param max the upper bound
+     * @param comparator the comparator used to check the bounds
+     */
+    public BoundedEntry(EntryOrigin origin, T min, T max, Comparator<T> comparator) {
+        super(origin, createRevisor(origin, min, max, comparator));
         this.min = min;
         this.max = max;
     }
 
+    public BoundedEntry(EntryOrigin origin, T min, T max) {
+        this(origin, min, max, NumberUtils.comparator(min.getClass()));
+    }
+
+    @Override
+    boolean isRevised(long value) {
+        return min.longValue() <= value && value <= max.longValue();
+    }
+
+    @Override
+    boolean isRevised(double value) {
+        return min.doubleValue() <= value && value <= max.doubleValue();
+    }
+
 }
@@ -1,6 +1,8 @@
 package me.lortseam.completeconfig.data;
 
 import com.google.common.base.CaseFormat;
+import lombok.AccessLevel;
+import lombok.Getter;
 import me.lortseam.completeconfig.api.ConfigContainer;
 import me.lortseam.completeconfig.api.ConfigGroup;
 import me.lortseam.completeconfig.data.structure.Identifiable;
@@ -20,6 +22,7 @@ public final class Cluster extends Parent implements Identifiable, DescriptionSu
 
     private final Parent parent;
     private final ConfigGroup group;
+    @Getter(AccessLevel.PACKAGE)
     private final String comment;
     @Environment(EnvType.CLIENT)
     private TranslationKey translation;
@@ -14,13 +14,26 @@ import net.fabricmc.loader.api.metadata.ModMetadata;
 import org.jetbrains.annotations.Nullable;
 import org.spongepowered.configurate.CommentedConfigurationNode;
 import org.spongepowered.configurate.ConfigurateException;
-import org.spongepowered.configurate.hocon.HoconConfigurationLoader;
+import org.spongepowered.configurate.ConfigurationNode;
+import org.spongepowered.configurate.loader.ConfigurationLoader;
+import org.spongepowered.configurate.serialize.SerializationException;
 
 import java.io.BufferedReader;
 import java.io.BufferedWriter;
-import java.util.Arrays;
-import java.util.Objects;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.*;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 
 /**
  * The base config class. Instantiate or inherit this class to create a mod config.
@@ -33,8 +46,35 @@ public class Config extends Parent implements ConfigContainer {
     @EqualsAndHashCode.Include
     @ToString.Include
     private final ConfigOptions options;
-    private final HoconConfigurationLoader loader;
+    private final ConfigurationLoader<?> loader;
     private Runnable resolver;
+    private final Object loadLock = new Object();
+    private volatile boolean loadPending;
+    private boolean loading;
+    private final Object renderLock = new Object();
+    private CommentedConfigurationNode renderedNode;
+    /**
+     * The content of the config file as it was last read or written by this config.
+     */
+    private volatile String fileContent;
+    /**
+     * The content of a write of the config file which was requested but did not complete yet, or {@code null}.
+     */
+    private final AtomicReference<String> pendingContent = new AtomicReference<>();
+    private Long cacheFingerprint;
+    private int batchDepth;
+    private final Map<Entry<?>, Object> batchedUpdates = new LinkedHashMap<>();
+    private final List<EventSubscription<EntryUpdateEvent<?>>> subscriptions = new CopyOnWriteArrayList<>();
+    private final Object snapshotLock = new Object();
+    private volatile ConfigSnapshot snapshot = ConfigSnapshot.EMPTY;
+    /**
+     * The values of entries which were updated since the snapshot was last published. Guarded by the snapshot lock.
+     */
+    private final Map<Entry<?>, Object> unpublishedValues = new HashMap<>();
+    /**
+     * Whether there are unpublished values, so readers only need to take the snapshot lock to merge them.
+     */
+    private volatile boolean snapshotOutdated;
     @Environment(EnvType.CLIENT)
     private TranslationKey translation;
 
@@ -89,19 +129,44 @@ public class Config extends Parent implements ConfigContainer {
         return options.getBranch();
     }
 
-    private void deserialize(HoconConfigurationLoader loader) {
+    private void runResolver() {
         if (resolver != null) {
             resolver.run();
             resolver = null;
         }
+    }
+
+    /**
+     * Loads the node tree of a loader. Formats without comment support load plain nodes, which are converted to
+     * commented nodes.
+     */
+    private static CommentedConfigurationNode load(ConfigurationLoader<?> loader) throws ConfigurateException {
+        ConfigurationNode node = loader.load();
+        if (node instanceof CommentedConfigurationNode) {
+            return (CommentedConfigurationNode) node;
+        }
+        return CommentedConfigurationNode.root(node.options()).from(node);
+    }
+
+    private static CommentedConfigurationNode createNode(ConfigurationLoader<?> loader) {
+        return CommentedConfigurationNode.root(loader.defaultOptions());
+    }
+
+    private void deserialize(ConfigurationLoader<?> loader) {
+        runResolver();
         if (isEmpty()) return;
+        batchDepth++;
         try {
-            CommentedConfigurationNode root = loader.load();
+            CommentedConfigurationNode root = load(loader);
             if (!root.isNull()) {
                 apply(root);
             }
         } catch (ConfigurateException e) {
             logger.error("Failed to load config", e);
+        } finally {
+            if (!endBatch()) {
+                updateSnapshot();
+            }
         }
     }
 
@@ -111,23 +176,277 @@ public class Config extends Parent implements ConfigContainer {
      * @param source the source to deserialize from
      */
     public final void deserialize(Callable<BufferedReader> source) {
+        ensureLoaded();
         deserialize(options.createLoader(builder -> builder.source(source)));
     }
 
     /**
-     * Loads the config from the config file.
+     * Loads the config from the config file. The file is only rewritten if its content differs from the loaded config,
+     * for example because values were revised, entries were added or removed, or comments changed. If the config was created with
+     * {@link ConfigOptions.Builder#lazy()} and was not loaded yet, loading is deferred until the config is first
+     * accessed.
      */
     public final void load() {
+        if (options.isLazy() && resolver != null) {
+            loadPending = true;
+            return;
+        }
+        loadFromFile();
+    }
+
+    boolean isLoadRequested() {
+        return resolver == null || loadPending;
+    }
+
+    boolean isParallelLoadingEnabled() {
+        return options.isParallelLoadingEnabled();
+    }
+
+    /**
+     * Loads the config now if its loading was deferred. Does nothing otherwise.
+     *
+     * @see ConfigOptions.Builder#lazy()
+     */
+    public final void preload() {
+        ensureLoaded();
+    }
+
+    @Override
+    final void ensureLoaded() {
+        if (!loadPending) return;
+        synchronized (loadLock) {
+            // The loading thread itself may access the config while it is being loaded
+            if (!loadPending || loading) return;
+            loading = true;
+            try {
+                loadFromFile();
+            } finally {
+                loading = false;
+                loadPending = false;
+            }
+        }
+    }
+
+    private void loadFromFile() {
+        if (!options.isCacheEnabled() || !loadFromCache()) {
+            deserialize(loader);
+            saveToFile(true, options.isAsyncSaveEnabled());
+        }
+        if (options.getHotReloadExecutor() != null) {
+            ConfigWatcher.watch(this, options.getFilePath(), options.getHotReloadExecutor());
+        }
+    }
+
+    /**
+     * Applies the cached values if the cache is valid for the current config file.
+     *
+     * @return whether the cached values were applied and the config file is up to date
+     */
+    private boolean loadFromCache() {
+        runResolver();
+        if (isEmpty()) return false;
+        Path path = options.getFilePath();
+        byte[] content;
+        long lastModified;
+        try {
+            content = Files.readAllBytes(path);
+            lastModified = Files.getLastModifiedTime(path).toMillis();
+        } catch (IOException e) {
+            return false;
+        }
+        List<Object> values = ConfigCache.read(options.getCachePath(), getCacheFingerprint(), content.length, lastModified, ConfigCache.hash(content));
+        if (values == null) return false;
+        List<Entry<?>> entries = new ArrayList<>();
+        ConfigCache.collectEntries(this, entries);
+        if (entries.size() != values.size()) return false;
+        CommentedConfigurationNode node = createNode(loader);
+        boolean revised = false;
+        batchDepth++;
+        try {
+            for (int i = 0; i < entries.size(); i++) {
+                node.raw(values.get(i));
+                if (!entries.get(i).applyCached(node)) {
+                    revised = true;
+                }
+            }
+        } catch (SerializationException e) {
+            logger.warn("Failed to apply cached values, loading config file instead", e);
+            return false;
+        } finally {
+            if (!endBatch()) {
+                updateSnapshot();
+            }
+        }
+        fileContent = new String(content, StandardCharsets.UTF_8);
+        if (revised) {
+            saveToFile(true, options.isAsyncSaveEnabled());
+        } else {
+            markSaved();
+        }
+        return true;
+    }
+
+    private long getCacheFingerprint() {
+        if (cacheFingerprint == null) {
+            cacheFingerprint = ConfigCache.fingerprint(this, options.getFormat().getFileExtension(), options.getFileHeader());
+        }
+        return cacheFingerprint;
+    }
+
+    private void writeCache(Path path, String content, long fingerprint, List<Object> values) {
+        try {
+            ConfigCache.write(options.getCachePath(), fingerprint, Files.size(path), Files.getLastModifiedTime(path).toMillis(), ConfigCache.hash(content.getBytes(StandardCharsets.UTF_8)), values);
+        } catch (IOException e) {
+            logger.warn("Failed to write config cache", e);
+        }
+    }
+
+    /**
+     * Reloads the config from the config file without saving it afterwards. Only entries whose value differs from the
+     * loaded one are updated, and listeners are notified once the whole file was applied.
+     */
+    public final void reload() {
+        if (resolver != null) {
+            // Not loaded yet, nothing to reload
+            return;
+        }
         deserialize(loader);
-        save();
+        markReloaded();
+    }
+
+    /**
+     * Reloads the config if the content of the config file differs from the content this config last read or wrote.
+     * While a write of this config is pending, the file is not reloaded, since it still contains older content and is
+     * overwritten by the pending write anyway.
+     */
+    void reloadIfModified() {
+        if (resolver != null || pendingContent.get() != null) return;
+        String content;
+        try {
+            content = Files.readString(options.getFilePath());
+        } catch (IOException e) {
+            // The file may be deleted or not fully written yet
+            return;
+        }
+        if (content.equals(fileContent)) return;
+        fileContent = content;
+        logger.info("Reloading " + this + " after its file was modified");
+        deserialize(options.createLoader(builder -> builder.source(() -> new BufferedReader(new StringReader(content)))));
+        markReloaded();
+    }
+
+    /**
+     * Marks the values applied by a reload as saved, since they were read from the config file. Entries whose values
+     * differ from the previously rendered ones are fetched, so the next save writes them as they are now.
+     */
+    private void markReloaded() {
+        synchronized (renderLock) {
+            if (renderedNode != null) {
+                fetchChanges(renderedNode);
+            } else {
+                markSaved();
+            }
+        }
     }
 
-    private void serialize(HoconConfigurationLoader loader) {
+    private CompletableFuture<Void> saveToFile(boolean onlyIfChanged, boolean async) {
+        if (isEmpty()) return CompletableFuture.completedFuture(null);
+        String content;
+        List<Object> cachedValues = options.isCacheEnabled() ? new ArrayList<>() : null;
+        try {
+            content = render(cachedValues);
+        } catch (ConfigurateException e) {
+            logger.error("Failed to serialize config", e);
+            return CompletableFuture.failedFuture(e);
+        }
+        Path path = options.getFilePath();
+        long fingerprint = cachedValues != null ? getCacheFingerprint() : 0;
+        if (onlyIfChanged) {
+            try {
+                if (content.equals(Files.readString(path))) {
+                    fileContent = content;
+                    if (cachedValues != null) {
+                        writeCache(path, content, fingerprint, cachedValues);
+                    }
+                    return CompletableFuture.completedFuture(null);
+                }
+            } catch (IOException ignore) {
+                // The file does not exist yet or cannot be read, so it gets rewritten
+            }
+        }
+        // Set before writing so the watcher never mistakes this write for an external modification
+        pendingContent.set(content);
+        if (async) {
+            CompletableFuture<Void> future = ConfigWriter.write(path, content, options.getSyncPolicy(), options.getSaveDelay())
+                    .whenComplete((result, e) -> completeWrite(content, e == null));
+            if (cachedValues != null) {
+                // The file may have been rewritten with newer content when the future completes, so the cache is
+                // only valid if the content still matches
+                future = future.thenRun(() -> {
+                    if (content == fileContent) {
+                        writeCache(path, content, fingerprint, cachedValues);
+                    }
+                });
+            }
+            return future;
+        }
+        try {
+            ConfigFileWriter.write(path, content, options.getSyncPolicy());
+        } catch (IOException e) {
+            completeWrite(content, false);
+            logger.error("Failed to save config", e);
+            return CompletableFuture.failedFuture(e);
+        }
+        completeWrite(content, true);
+        if (cachedValues != null) {
+            writeCache(path, content, fingerprint, cachedValues);
+        }
+        return CompletableFuture.completedFuture(null);
+    }
+
+    /**
+     * Marks a requested write as finished. Coalesced async writes complete the futures of all requests once the latest
+     * content was written, so only the write of the latest requested content updates the file content.
+     */
+    private void completeWrite(String content, boolean written) {
+        if (pendingContent.get() != content) return;
+        if (written) {
+            fileContent = content;
+        }
+        pendingContent.compareAndSet(content, null);
+    }
+
+    /**
+     * Renders this config the way it would be written to its file. The node tree of the previous rendering is retained,
+     * so only entries which changed since then need to be fetched again.
+     *
+     * @param values a list to collect the raw entry values for the cache into, or {@code null}
+     */
+    private String render(@Nullable List<Object> values) throws ConfigurateException {
+        StringWriter writer = new StringWriter();
+        ConfigurationLoader<?> renderer = options.createLoader(builder -> builder.sink(() -> new BufferedWriter(writer)));
+        synchronized (renderLock) {
+            if (renderedNode == null) {
+                renderedNode = createNode(renderer);
+                fetch(renderedNode);
+                markSaved();
+            } else {
+                fetchChanges(renderedNode);
+            }
+            renderer.save(renderedNode);
+            if (values != null) {
+                ConfigCache.collectValues(this, renderedNode, values);
+            }
+        }
+        return writer.toString();
+    }
+
+    private void serialize(ConfigurationLoader<?> loader) {
         if (resolver != null) {
             throw new IllegalStateException("Cannot serialize config before it was loaded");
         }
         if (isEmpty()) return;
-        CommentedConfigurationNode root = loader.createNode();
+        CommentedConfigurationNode root = createNode(loader);
         fetch(root);
         try {
             loader.save(root);
@@ -142,14 +461,190 @@ public class Config extends Parent implements ConfigContainer {
      * @param sink the sink to serialize to
      */
     public final void serialize(Callable<BufferedWriter> sink) {
+        ensureLoaded();
         serialize(options.createLoader(builder -> builder.sink(sink)));
     }
 
     /**
-     * Saves the config to the config file.
+     * Saves the config to the config file. If asynchronous saving is enabled, the file is written in the background.
+     *
+     * @see ConfigOptions.Builder#enableAsyncSave(Duration)
      */
     public final void save() {
-        serialize(loader);
+        if (options.isAsyncSaveEnabled()) {
+            saveAsync();
+            return;
+        }
+        if (loadPending) {
+            // Loading saves the config anyway
+            ensureLoaded();
+            return;
+        }
+        if (resolver != null) {
+            throw new IllegalStateException("Cannot serialize config before it was loaded");
+        }
+        saveToFile(false, false);
+    }
+
+    /**
+     * Saves the config to the config file in the background. The config is rendered on the calling thread, so the saved
+     * values are consistent; only the file is written by a background writer. Saves requested while a previous save of
+     * this config is still pending are coalesced into a single write.
+     *
+     * @return a future which completes once the config file was written
+     *
+     * @see ConfigOptions.Builder#enableAsyncSave(Duration)
+     * @see ConfigRegistry#flushAll()
+     */
+    public final CompletableFuture<Void> saveAsync() {
+        if (loadPending) {
+            ensureLoaded();
+            return CompletableFuture.completedFuture(null);
+        }
+        if (resolver != null) {
+            throw new IllegalStateException("Cannot serialize config before it was loaded");
+        }
+        return saveToFile(false, true);
+    }
+
+    /**
+     * Returns the latest snapshot of this config's values. A new snapshot is published after the config was loaded and
+     * when it is requested after entries were updated, so the returned snapshot is safe to read from any thread.
+     * Snapshots are published through a volatile field; the snapshot lock is only taken if entries were updated since the
+     * last snapshot was published.
+     *
+     * @return the latest snapshot, or an empty snapshot if the config was not loaded yet
+     */
+    public final ConfigSnapshot getSnapshot() {
+        ensureLoaded();
+        if (!snapshotOutdated) {
+            return snapshot;
+        }
+        synchronized (snapshotLock) {
+            if (!unpublishedValues.isEmpty()) {
+                snapshot = snapshot.with(unpublishedValues);
+                unpublishedValues.clear();
+            }
+            snapshotOutdated = false;
+            return snapshot;
+        }
+    }
+
+    void updateSnapshot() {
+        if (resolver != null || batchDepth > 0) return;
+        ConfigSnapshot snapshot = ConfigSnapshot.of(this);
+        synchronized (snapshotLock) {
+            this.snapshot = snapshot;
+            unpublishedValues.clear();
+            snapshotOutdated = false;
+        }
+    }
+
+    /**
+     * Records the values of updated entries for the next snapshot. Entry updates are only merged into a new snapshot
+     * once it is requested, so updating an entry does not need to copy the values of all other entries.
+     *
+     * @param entries the updated entries
+     */
+    void publishValues(List<Entry<?>> entries) {
+        if (resolver != null) return;
+        synchronized (snapshotLock) {
+            if (snapshot == ConfigSnapshot.EMPTY) {
+                snapshot = ConfigSnapshot.of(this);
+                return;
+            }
+            for (Entry<?> entry : entries) {
+                unpublishedValues.put(entry, entry.peekValue());
+            }
+            snapshotOutdated = true;
+        }
+    }
+
+    /**
+     * Starts a batch of entry updates. While the batch is open, listeners are not notified of entry updates. Once it is
+     * closed, every affected container and this config are notified once, with all of their updated entries. Batches
+     * may be nested; listeners are then notified when the outermost batch is closed.
+     *
+     * <p>Batches are not thread-safe and must be closed on the thread that started them.
+     *
+     * @return the started batch
+     */
+    public final Batch startBatch() {
+        batchDepth++;
+        return new Batch();
+    }
+
+    /**
+     * Runs entry updates as a batch.
+     *
+     * @param updates the updates to run
+     *
+     * @see #startBatch()
+     */
+    public final void batch(@NonNull Runnable updates) {
+        try (Batch batch = startBatch()) {
+            updates.run();
+        }
+    }
+
+    boolean deferEntryUpdate(Entry<?> entry, Object oldValue) {
+        if (batchDepth == 0) return false;
+        batchedUpdates.putIfAbsent(entry, oldValue);
+        return true;
+    }
+
+    private boolean endBatch() {
+        if (--batchDepth > 0 || batchedUpdates.isEmpty()) return false;
+        Map<Entry<?>, Object> oldValues = new LinkedHashMap<>(batchedUpdates);
+        batchedUpdates.clear();
+        List<Entry<?>> updatedEntries = List.copyOf(oldValues.keySet());
+        Map<ConfigContainer, List<Entry<?>>> updatedEntriesByContainer = new LinkedHashMap<>();
+        for (Entry<?> entry : updatedEntries) {
+            updatedEntriesByContainer.computeIfAbsent(entry.origin.getContainer(), container -> new ArrayList<>()).add(entry);
+        }
+        updatedEntriesByContainer.forEach((container, entries) -> container.onContainerEntriesUpdate(Collections.unmodifiableList(entries)));
+        onConfigEntriesUpdate(updatedEntries);
+        publishValues(updatedEntries);
+        oldValues.forEach((entry, oldValue) -> ((Entry<Object>) entry).dispatchUpdate(oldValue));
+        return true;
+    }
+
+    /**
+     * Subscribes to updates of all entries of this config. The listener is called on the updating thread.
+     *
+     * @param listener the listener
+     */
+    public final void subscribe(@NonNull Consumer<EntryUpdateEvent<?>> listener) {
+        subscriptions.add(new EventSubscription<>(listener, null));
+    }
+
+    /**
+     * Subscribes to updates of all entries of this config. The listener is called by the specified executor.
+     *
+     * @param listener the listener
+     * @param executor the executor to call the listener with
+     */
+    public final void subscribe(@NonNull Consumer<EntryUpdateEvent<?>> listener, @NonNull Executor executor) {
+        subscriptions.add(new EventSubscription<>(listener, executor));
+    }
+
+    /**
+     * Removes all subscriptions of a listener from this config.
+     *
+     * @param listener the listener
+     */
+    public final void unsubscribe(@NonNull Consumer<EntryUpdateEvent<?>> listener) {
+        subscriptions.removeIf(subscription -> subscription.getListener() == listener);
+    }
+
+    boolean hasSubscriptions() {
+        return !subscriptions.isEmpty();
+    }
+
+    void dispatchUpdate(EntryUpdateEvent<?> event) {
+        for (EventSubscription<EntryUpdateEvent<?>> subscription : subscriptions) {
+            subscription.dispatch(event);
+        }
     }
 
     /**
@@ -157,15 +652,39 @@ public class Config extends Parent implements ConfigContainer {
      */
     protected void onConfigEntryUpdate() {}
 
+    /**
+     * Called when entries of this config get updated. Updates made in a batch are reported by a single call. Defaults
+     * to calling {@link #onConfigEntryUpdate()}.
+     *
+     * @param entries the updated entries
+     *
+     * @see #startBatch()
+     */
+    protected void onConfigEntriesUpdate(Collection<Entry<?>> entries) {
+        onConfigEntryUpdate();
+    }
+
     @Override
     Config getRoot() {
         return this;
     }
 
+    boolean isSyncEnabled() {
+        return options.isSyncEnabled();
+    }
+
+    CommentedConfigurationNode createValueNode() {
+        return CommentedConfigurationNode.root(options.getNodeOptions());
+    }
+
     ConfigRegistry getRegistry() {
         return options.getRegistry();
     }
 
+    boolean isReadRevisionDisabled() {
+        return options.isReadRevisionDisabled();
+    }
+
     @Override
     public TranslationKey getBaseTranslation(TranslationBase translationBase, @Nullable Class<? extends ConfigContainer> clazz) {
         return new TranslationKey(this);
@@ -179,4 +698,28 @@ public class Config extends Parent implements ConfigContainer {
         return translation;
     }
 
+    /**
+     * A batch of entry updates.
+     *
+     * @see #startBatch()
+     */
+    public final class Batch implements AutoCloseable {
+
+        private boolean closed;
+
+        private Batch() {}
+
+        /**
+         * Closes this batch. If this is the outermost batch, listeners are notified of all entry updates made since it
+         * was started.
+         */
+        @Override
+        public void close() {
+            if (closed) return;
+            closed = true;
+            endBatch();
+        }
+
+    }
+
 }
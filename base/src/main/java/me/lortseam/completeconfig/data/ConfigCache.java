@@ -0,0 +1,155 @@
+package me.lortseam.completeconfig.data;
+
+import lombok.experimental.UtilityClass;
+import lombok.extern.slf4j.Slf4j;
+import org.spongepowered.configurate.CommentedConfigurationNode;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.zip.CRC32C;
+
+/**
+ * Caches the values of a config file in a compact binary format, so that an unchanged config file can be loaded
+ * without parsing it. A cache file is only valid for the exact config file it was created from, identified by the
+ * file's size, modification time and content hash, and for the structure of the config it was created by.
+ *
+ * <p>Values are stored as the raw node values of all entries in traversal order, so they can be applied like parsed
+ * values.
+ *
+ * @see BinaryValues
+ */
+@Slf4j(topic = "CompleteConfig")
+@UtilityClass
+class ConfigCache {
+
+    private static final int MAGIC = 0x43434348;
+    private static final int VERSION = 1;
+
+    /**
+     * Collects all entries of a parent and its children in traversal order.
+     */
+    void collectEntries(Parent parent, List<Entry<?>> entries) {
+        entries.addAll((Collection<Entry<?>>) (Collection<?>) parent.getEntries());
+        for (Cluster cluster : parent.getClusters()) {
+            collectEntries(cluster, entries);
+        }
+    }
+
+    /**
+     * Collects the raw values of all entries of a parent and its children from a node tree in traversal order.
+     */
+    void collectValues(Parent parent, CommentedConfigurationNode node, List<Object> values) {
+        for (Entry<?> entry : parent.getEntries()) {
+            values.add(node.node(entry.getId()).raw());
+        }
+        for (Cluster cluster : parent.getClusters()) {
+            collectValues(cluster, node.node(cluster.getId()), values);
+        }
+    }
+
+    /**
+     * Computes a hash of everything besides the entry values which affects the content of the config file.
+     */
+    long fingerprint(Config config, String fileExtension, String fileHeader) {
+        CRC32C checksum = new CRC32C();
+        StringBuilder builder = new StringBuilder();
+        builder.append(fileExtension).append('\0').append(fileHeader).append('\0');
+        appendStructure(config, builder);
+        checksum.update(builder.toString().getBytes(StandardCharsets.UTF_8));
+        return checksum.getValue();
+    }
+
+    private void appendStructure(Parent parent, StringBuilder builder) {
+        for (Entry<?> entry : parent.getEntries()) {
+            builder.append(entry.getId()).append('\0').append(entry.getType().getTypeName()).append('\0').append(entry.getComment()).append('\0');
+        }
+        for (Cluster cluster : parent.getClusters()) {
+            builder.append('{').append(cluster.getId()).append('\0').append(cluster.getComment()).append('\0');
+            appendStructure(cluster, builder);
+            builder.append('}');
+        }
+    }
+
+    long hash(byte[] content) {
+        CRC32C checksum = new CRC32C();
+        checksum.update(content);
+        return checksum.getValue();
+    }
+
+    /**
+     * Reads the cached values for a config file.
+     *
+     * @return the cached values, or {@code null} if there is no valid cache for the config file
+     */
+    List<Object> read(Path cachePath, long fingerprint, long sourceSize, long sourceModified, long sourceHash) {
+        ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(cachePath, StandardOpenOption.READ)) {
+            try {
+                buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            } catch (UnsupportedOperationException e) {
+                // Not every file system supports memory mapping
+                buffer = ByteBuffer.wrap(Files.readAllBytes(cachePath));
+            }
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException e) {
+            logger.warn("Failed to read config cache " + cachePath, e);
+            return null;
+        }
+        try {
+            if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION || buffer.getLong() != fingerprint || buffer.getLong() != sourceSize || buffer.getLong() != sourceModified || buffer.getLong() != sourceHash) {
+                return null;
+            }
+            int size = buffer.getInt();
+            List<Object> values = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                values.add(BinaryValues.read(buffer));
+            }
+            return values;
+        } catch (RuntimeException e) {
+            logger.warn("Config cache " + cachePath + " is corrupted", e);
+            return null;
+        }
+    }
+
+    /**
+     * Writes the values of a config file to the cache.
+     */
+    void write(Path cachePath, long fingerprint, long sourceSize, long sourceModified, long sourceHash, List<Object> values) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeLong(fingerprint);
+            out.writeLong(sourceSize);
+            out.writeLong(sourceModified);
+            out.writeLong(sourceHash);
+            out.writeInt(values.size());
+            for (Object value : values) {
+                BinaryValues.write(out, value);
+            }
+        } catch (UnsupportedOperationException e) {
+            logger.debug("Config " + cachePath + " cannot be cached: " + e.getMessage());
+            return;
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        try {
+            ConfigFileWriter.write(cachePath, ByteBuffer.wrap(bytes.toByteArray()), SyncPolicy.NONE);
+        } catch (IOException e) {
+            logger.warn("Failed to write config cache " + cachePath, e);
+        }
+    }
+
+}
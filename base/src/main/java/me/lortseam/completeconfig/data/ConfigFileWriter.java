@@ -0,0 +1,80 @@
+package me.lortseam.completeconfig.data;
+
+import lombok.experimental.UtilityClass;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.util.UUID;
+
+/**
+ * Writes config files by writing to a temporary file in the same directory and moving it onto the target file. The
+ * temporary file is deleted if the write fails.
+ */
+@Slf4j(topic = "CompleteConfig")
+@UtilityClass
+class ConfigFileWriter {
+
+    static void write(Path path, String content, SyncPolicy syncPolicy) throws IOException {
+        write(path, StandardCharsets.UTF_8.encode(content), syncPolicy);
+    }
+
+    static void write(Path path, ByteBuffer buffer, SyncPolicy syncPolicy) throws IOException {
+        Path directory = path.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        // Unique per write, so concurrent writes of the same file never share a temporary file. Unlike
+        // Files#createTempFile, the file is created with the default permissions, so the umask applies.
+        Path tempPath = directory.resolve(path.getFileName() + "." + UUID.randomUUID() + ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(tempPath, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                if (syncPolicy != SyncPolicy.NONE) {
+                    channel.force(true);
+                }
+            }
+            copyPermissions(path, tempPath);
+            try {
+                Files.move(tempPath, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                logger.debug("Atomic move is not supported for " + path + ", falling back to a regular move");
+                Files.move(tempPath, path, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(tempPath);
+        }
+        if (syncPolicy == SyncPolicy.FILE_AND_DIRECTORY) {
+            try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+                channel.force(true);
+            } catch (IOException e) {
+                logger.debug("Failed to sync directory " + directory, e);
+            }
+        }
+    }
+
+    /**
+     * Copies the POSIX permissions of the file which is replaced, so rewriting a config file keeps its mode.
+     */
+    private static void copyPermissions(Path source, Path target) {
+        PosixFileAttributeView view = Files.getFileAttributeView(source, PosixFileAttributeView.class);
+        if (view == null) return;
+        try {
+            Files.setPosixFilePermissions(target, view.readAttributes().permissions());
+        } catch (NoSuchFileException ignore) {
+            // The file is written for the first time
+        } catch (IOException e) {
+            logger.debug("Failed to copy permissions of " + source, e);
+        }
+    }
+
+}
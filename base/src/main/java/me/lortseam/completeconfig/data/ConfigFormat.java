@@ -0,0 +1,59 @@
+package me.lortseam.completeconfig.data;
+
+import lombok.Getter;
+import lombok.NonNull;
+import org.spongepowered.configurate.hocon.HoconConfigurationLoader;
+import org.spongepowered.configurate.loader.AbstractConfigurationLoader;
+
+import java.util.function.Supplier;
+
+/**
+ * The storage format of a config file. A format is backed by a Configurate loader and determines the extension of the
+ * config file.
+ *
+ * <p>Comments are only written by formats that support them. Formats which load plain nodes are converted to commented
+ * nodes on load, so every format can be used with any config.
+ *
+ * @see ConfigOptions.Builder#format(ConfigFormat)
+ */
+public final class ConfigFormat {
+
+    /**
+     * The default format, which is human-friendly and supports comments.
+     */
+    public static final ConfigFormat HOCON = of("conf", HoconConfigurationLoader::builder);
+
+    /**
+     * Creates a format backed by a Configurate loader, for example
+     * {@code ConfigFormat.of("json", GsonConfigurationLoader::builder)}.
+     *
+     * @param fileExtension the file extension without leading dot
+     * @param loaderBuilderFactory the factory creating a builder for the loader
+     * @return the format
+     */
+    public static ConfigFormat of(@NonNull String fileExtension, @NonNull Supplier<? extends AbstractConfigurationLoader.Builder<?, ?>> loaderBuilderFactory) {
+        if (fileExtension.isEmpty() || fileExtension.startsWith(".")) {
+            throw new IllegalArgumentException("Invalid file extension " + fileExtension);
+        }
+        return new ConfigFormat(fileExtension, loaderBuilderFactory);
+    }
+
+    @Getter
+    private final String fileExtension;
+    private final Supplier<? extends AbstractConfigurationLoader.Builder<?, ?>> loaderBuilderFactory;
+
+    private ConfigFormat(String fileExtension, Supplier<? extends AbstractConfigurationLoader.Builder<?, ?>> loaderBuilderFactory) {
+        this.fileExtension = fileExtension;
+        this.loaderBuilderFactory = loaderBuilderFactory;
+    }
+
+    AbstractConfigurationLoader.Builder<?, ?> createLoaderBuilder() {
+        return loaderBuilderFactory.get();
+    }
+
+    @Override
+    public String toString() {
+        return "ConfigFormat(" + fileExtension + ")";
+    }
+
+}
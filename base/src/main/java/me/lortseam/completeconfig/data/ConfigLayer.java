@@ -0,0 +1,125 @@
+package me.lortseam.completeconfig.data;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.ToString;
+
+import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * A layer of entry values which override the values of the config file, for example per world or per player. A layer
+ * only stores the entries it overrides.
+ *
+ * <p>Layers are copy-on-write: every modification publishes a new immutable map of overrides, so layers can be read
+ * from any thread without locking.
+ *
+ * @see LayeredConfigView
+ */
+@ToString(onlyExplicitlyIncluded = true)
+public final class ConfigLayer {
+
+    @Getter
+    @ToString.Include
+    private final String name;
+    private volatile Map<Entry<?>, Object> overrides = Collections.emptyMap();
+    private final List<Consumer<Entry<?>>> listeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * Creates an empty layer.
+     *
+     * @param name the name of the layer, e.g. {@code "world"}
+     */
+    public ConfigLayer(@NonNull String name) {
+        this.name = name;
+    }
+
+    /**
+     * Gets the overriding value of an entry.
+     *
+     * @param entry the entry
+     * @return the value, or an empty optional if this layer does not override the entry
+     */
+    public <T> Optional<T> get(@NonNull Entry<T> entry) {
+        return Optional.ofNullable((T) overrides.get(entry));
+    }
+
+    /**
+     * Returns whether this layer overrides an entry.
+     *
+     * @param entry the entry
+     * @return {@code true} if this layer overrides the entry
+     */
+    public boolean contains(@NonNull Entry<?> entry) {
+        return overrides.containsKey(entry);
+    }
+
+    /**
+     * Returns all overrides of this layer at the time of the call.
+     *
+     * @return an immutable map of entries to their overriding values
+     */
+    public Map<Entry<?>, Object> getOverrides() {
+        return overrides;
+    }
+
+    /**
+     * Overrides the value of an entry. The value is revised like values set on the entry itself.
+     *
+     * @param entry the entry
+     * @param value the overriding value
+     */
+    public <T> void set(@NonNull Entry<T> entry, @NonNull T value) {
+        T revisedValue = entry.revise(value);
+        synchronized (this) {
+            if (revisedValue.equals(overrides.get(entry))) return;
+            Map<Entry<?>, Object> overrides = new HashMap<>(this.overrides);
+            overrides.put(entry, revisedValue);
+            this.overrides = Collections.unmodifiableMap(overrides);
+        }
+        notifyListeners(entry);
+    }
+
+    /**
+     * Removes the override of an entry.
+     *
+     * @param entry the entry
+     */
+    public void remove(@NonNull Entry<?> entry) {
+        synchronized (this) {
+            if (!overrides.containsKey(entry)) return;
+            Map<Entry<?>, Object> overrides = new HashMap<>(this.overrides);
+            overrides.remove(entry);
+            this.overrides = Collections.unmodifiableMap(overrides);
+        }
+        notifyListeners(entry);
+    }
+
+    /**
+     * Removes all overrides.
+     */
+    public void clear() {
+        Set<Entry<?>> removedEntries;
+        synchronized (this) {
+            removedEntries = overrides.keySet();
+            overrides = Collections.emptyMap();
+        }
+        removedEntries.forEach(this::notifyListeners);
+    }
+
+    void addListener(Consumer<Entry<?>> listener) {
+        listeners.add(listener);
+    }
+
+    void removeListener(Consumer<Entry<?>> listener) {
+        listeners.remove(listener);
+    }
+
+    private void notifyListeners(Entry<?> entry) {
+        for (Consumer<Entry<?>> listener : listeners) {
+            listener.accept(entry);
+        }
+    }
+
+}
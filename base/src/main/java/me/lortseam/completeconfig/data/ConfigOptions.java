@@ -7,7 +7,9 @@ import me.lortseam.completeconfig.data.transform.Transformation;
 import net.fabricmc.loader.api.FabricLoader;
 import org.apache.commons.lang3.ArrayUtils;
 import org.jetbrains.annotations.NotNull;
-import org.spongepowered.configurate.hocon.HoconConfigurationLoader;
+import org.spongepowered.configurate.ConfigurationOptions;
+import org.spongepowered.configurate.loader.AbstractConfigurationLoader;
+import org.spongepowered.configurate.loader.ConfigurationLoader;
 import org.spongepowered.configurate.objectmapping.ObjectMapper;
 import org.spongepowered.configurate.serialize.CoercionFailedException;
 import org.spongepowered.configurate.serialize.TypeSerializer;
@@ -15,10 +17,12 @@ import org.spongepowered.configurate.serialize.TypeSerializerCollection;
 
 import java.awt.*;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 
 @EqualsAndHashCode(onlyExplicitlyIncluded = true)
@@ -35,6 +39,8 @@ public final class ConfigOptions {
             }))
             .build();
 
+    private static final String CACHE_DIRECTORY = ".completeconfig-cache";
+
     /**
      * Creates a {@link ConfigOptions.Builder} for the specified mod.
      *
@@ -56,52 +62,130 @@ public final class ConfigOptions {
     @Getter(AccessLevel.PACKAGE)
     private final String[] branch;
     private final TypeSerializerCollection typeSerializers;
+    @Getter(AccessLevel.PACKAGE)
     private final String fileHeader;
     @Getter(AccessLevel.PACKAGE)
+    private final ConfigFormat format;
+    @Getter(AccessLevel.PACKAGE)
+    private final boolean readRevisionDisabled;
+    @Getter(AccessLevel.PACKAGE)
+    private final boolean lazy;
+    @Getter(AccessLevel.PACKAGE)
+    private final boolean parallelLoadingEnabled;
+    @Getter(AccessLevel.PACKAGE)
+    private final SyncPolicy syncPolicy;
+    @Getter(AccessLevel.PACKAGE)
+    private final boolean asyncSaveEnabled;
+    @Getter(AccessLevel.PACKAGE)
+    private final Duration saveDelay;
+    @Getter(AccessLevel.PACKAGE)
+    private final Executor hotReloadExecutor;
+    @Getter(AccessLevel.PACKAGE)
+    private final boolean cacheEnabled;
+    @Getter(AccessLevel.PACKAGE)
+    private final boolean syncEnabled;
+    @Getter(AccessLevel.PACKAGE)
     private final ConfigRegistry registry = new ConfigRegistry();
+    private volatile LoaderOptions loaderOptions;
 
-    private ConfigOptions(String modId, String[] branch, TypeSerializerCollection typeSerializers, List<Transformation> transformations, String fileHeader) {
-        this.modId = modId;
-        this.branch = branch;
-        this.typeSerializers = typeSerializers;
-        registry.registerTransformations(transformations);
-        this.fileHeader = fileHeader;
+    private ConfigOptions(Builder builder) {
+        modId = builder.modId;
+        branch = builder.branch.clone();
+        typeSerializers = builder.typeSerializerCollectionBuilder.build();
+        registry.registerTransformations(builder.transformations);
+        registry.registerTypeSerializers(typeSerializers);
+        fileHeader = builder.fileHeader;
+        format = builder.format;
+        readRevisionDisabled = builder.readRevisionDisabled;
+        lazy = builder.lazy;
+        parallelLoadingEnabled = builder.parallelLoadingEnabled;
+        syncPolicy = builder.syncPolicy;
+        asyncSaveEnabled = builder.saveDelay != null;
+        saveDelay = asyncSaveEnabled ? builder.saveDelay : Duration.ZERO;
+        hotReloadExecutor = builder.hotReloadExecutor;
+        cacheEnabled = builder.cacheEnabled;
+        syncEnabled = builder.syncEnabled;
     }
 
-    HoconConfigurationLoader createDefaultLoader() {
-        return createLoader(builder -> {
-            Path path = FabricLoader.getInstance().getConfigDir();
-            String[] subPath = ArrayUtils.addFirst(branch, modId);
-            subPath[subPath.length - 1] = subPath[subPath.length - 1] + ".conf";
-            for (String child : subPath) {
-                path = path.resolve(child);
-            }
-            builder.path(path);
-        });
+    Path getFilePath() {
+        return resolvePath(FabricLoader.getInstance().getConfigDir(), "." + format.getFileExtension());
     }
 
-    HoconConfigurationLoader createLoader(Consumer<HoconConfigurationLoader.Builder> builderConsumer) {
-        HoconConfigurationLoader.Builder builder = HoconConfigurationLoader.builder()
-                .defaultOptions(options -> options
-                        .serializers(typeSerializersBuilder -> {
-                            // Register user created serializers first so they can override default ones
-                            typeSerializersBuilder.registerAll(typeSerializers);
-                            typeSerializersBuilder.registerAll(COMMON_TYPE_SERIALIZERS);
-                            for (TypeSerializerCollection typeSerializers : CompleteConfig.collectExtensions(DataExtension.class, DataExtension::getTypeSerializers)) {
-                                typeSerializersBuilder.registerAll(typeSerializers);
-                            }
-                        })
-                        .header(fileHeader)
-                );
+    Path getCachePath() {
+        return resolvePath(FabricLoader.getInstance().getConfigDir().resolve(CACHE_DIRECTORY), ".bin");
+    }
+
+    private Path resolvePath(Path path, String extension) {
+        String[] subPath = ArrayUtils.addFirst(branch, modId);
+        subPath[subPath.length - 1] = subPath[subPath.length - 1] + extension;
+        for (String child : subPath) {
+            path = path.resolve(child);
+        }
+        return path;
+    }
+
+    ConfigurationLoader<?> createDefaultLoader() {
+        return createLoader(builder -> builder.path(getFilePath()));
+    }
+
+    /**
+     * Gets the options for standalone nodes, e.g. nodes used to encode single values.
+     */
+    ConfigurationOptions getNodeOptions() {
+        return getLoaderOptions();
+    }
+
+    ConfigurationLoader<?> createLoader(Consumer<AbstractConfigurationLoader.Builder<?, ?>> builderConsumer) {
+        AbstractConfigurationLoader.Builder<?, ?> builder = format.createLoaderBuilder();
+        builder.defaultOptions(getLoaderOptions());
         builderConsumer.accept(builder);
         return builder.build();
     }
 
+    /**
+     * Gets the options for loaders of this config. The options are created once and only recreated after extensions
+     * were registered, since extensions may contribute type serializers.
+     */
+    private ConfigurationOptions getLoaderOptions() {
+        int extensionsVersion = CompleteConfig.getExtensionsVersion();
+        LoaderOptions cached = loaderOptions;
+        if (cached == null || cached.extensionsVersion != extensionsVersion) {
+            ConfigurationOptions formatOptions = format.createLoaderBuilder().defaultOptions();
+            TypeSerializerCollection.Builder typeSerializersBuilder = formatOptions.serializers().childBuilder();
+            // Register user created serializers first so they can override default ones
+            typeSerializersBuilder.registerAll(typeSerializers);
+            typeSerializersBuilder.registerAll(COMMON_TYPE_SERIALIZERS);
+            for (TypeSerializerCollection typeSerializers : CompleteConfig.collectExtensions(DataExtension.class, DataExtension::getTypeSerializers)) {
+                typeSerializersBuilder.registerAll(typeSerializers);
+            }
+            cached = new LoaderOptions(extensionsVersion, formatOptions.serializers(typeSerializersBuilder.build()).header(fileHeader));
+            loaderOptions = cached;
+        }
+        return cached.options;
+    }
+
+    @RequiredArgsConstructor
+    private static final class LoaderOptions {
+
+        private final int extensionsVersion;
+        private final ConfigurationOptions options;
+
+    }
+
     public static final class Builder {
 
         private final String modId;
         private String[] branch = new String[0];
         private String fileHeader;
+        private ConfigFormat format = ConfigFormat.HOCON;
+        private boolean readRevisionDisabled;
+        private boolean lazy;
+        private boolean parallelLoadingEnabled;
+        private SyncPolicy syncPolicy = SyncPolicy.NONE;
+        private Duration saveDelay;
+        private Executor hotReloadExecutor;
+        private boolean cacheEnabled;
+        private boolean syncEnabled;
         private final TypeSerializerCollection.Builder typeSerializerCollectionBuilder = TypeSerializerCollection.builder();
         private final List<Transformation> transformations = new ArrayList<>();
 
@@ -146,8 +230,129 @@ public final class ConfigOptions {
             return this;
         }
 
+        /**
+         * Sets the storage format of the config file. The file extension follows the format. Defaults to
+         * {@link ConfigFormat#HOCON}.
+         *
+         * @param format the format
+         * @return this builder
+         */
+        public Builder format(@NonNull ConfigFormat format) {
+            this.format = format;
+            return this;
+        }
+
+        /**
+         * Disables the revision of entry values on read. {@link Entry#getValue()} then returns the field value as is;
+         * values are only revised when they are set or loaded, or when {@link Parent#validate()} is called.
+         *
+         * @return this builder
+         */
+        public Builder disableReadRevision() {
+            readRevisionDisabled = true;
+            return this;
+        }
+
+        /**
+         * Enables lazy loading. {@link Config#load()} then only marks the config for loading; it is resolved and loaded
+         * from file on first access, for example when its entries, clusters or snapshot are requested or a config
+         * screen is built. Use {@link Config#preload()} to load it ahead of time.
+         *
+         * <p>Fields of lazily loaded configs keep their default values until the config is accessed.
+         *
+         * @return this builder
+         */
+        public Builder lazy() {
+            lazy = true;
+            return this;
+        }
+
+        /**
+         * Allows {@link ConfigRegistry#loadAll()} to load the config on a worker thread, in parallel with other configs.
+         * Only enable this if the config's containers, listeners and type serializers do not depend on the thread they
+         * are called from.
+         *
+         * @return this builder
+         */
+        public Builder enableParallelLoading() {
+            parallelLoadingEnabled = true;
+            return this;
+        }
+
+        /**
+         * Sets the sync policy used when writing the config file. Defaults to {@link SyncPolicy#NONE}.
+         *
+         * @param syncPolicy the sync policy
+         * @return this builder
+         */
+        public Builder syncPolicy(@NonNull SyncPolicy syncPolicy) {
+            this.syncPolicy = syncPolicy;
+            return this;
+        }
+
+        /**
+         * Enables asynchronous saving. {@link Config#save()} then renders the config on the calling thread and writes
+         * the file on a background thread. Saves requested within the delay after the first pending save are coalesced
+         * into a single write.
+         *
+         * @param delay the time to wait for further saves before writing the file
+         * @return this builder
+         *
+         * @see Config#saveAsync()
+         */
+        public Builder enableAsyncSave(@NonNull Duration delay) {
+            if (delay.isNegative()) {
+                throw new IllegalArgumentException("Save delay must not be negative");
+            }
+            saveDelay = delay;
+            return this;
+        }
+
+        /**
+         * Enables hot reloading. Once loaded, the config file is watched and the config is reloaded when the file is
+         * modified by another program. Modifications made by the config itself are ignored.
+         *
+         * <p>Reloads are performed by the specified executor, for example the server thread, since they update entries
+         * and notify listeners. Entries are not thread-safe, so the executor must run reloads on the thread the config
+         * is used on; running them directly on the file watcher thread is not supported.
+         *
+         * @param executor the executor to reload the config with
+         * @return this builder
+         *
+         * @see Config#reload()
+         */
+        public Builder enableHotReload(@NonNull Executor executor) {
+            hotReloadExecutor = executor;
+            return this;
+        }
+
+        /**
+         * Enables the binary value cache. Whenever the config file is written, its values are additionally stored in
+         * a compact binary cache file. As long as the config file stays unchanged, loading the config then applies the
+         * cached values instead of parsing the config file.
+         *
+         * @return this builder
+         */
+        public Builder enableCache() {
+            cacheEnabled = true;
+            return this;
+        }
+
+        /**
+         * Enables synchronization of all entries of the config from servers to clients. Without this, only entries
+         * declared with {@link me.lortseam.completeconfig.api.ConfigEntry#synced()} are synchronized.
+         *
+         * @return this builder
+         *
+         * @see ConfigSyncServer
+         */
+        public Builder enableSync() {
+            syncEnabled = true;
+            return this;
+        }
+
         ConfigOptions build() {
-            return new ConfigOptions(modId, branch.clone(), typeSerializerCollectionBuilder.build(), transformations, fileHeader);
+            return new ConfigOptions(this);
         }
 
     }
@@ -1,18 +1,27 @@
 package me.lortseam.completeconfig.data;
 
 import com.google.common.collect.Lists;
+import lombok.EqualsAndHashCode;
 import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
 import me.lortseam.completeconfig.CompleteConfig;
 import me.lortseam.completeconfig.data.extension.DataExtension;
 import me.lortseam.completeconfig.data.transform.Transformation;
+import me.lortseam.completeconfig.util.ReflectionUtils;
+import org.spongepowered.configurate.serialize.TypeSerializerCollection;
 
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
 public final class ConfigRegistry {
 
-    private static final Set<Config> configs = new HashSet<>();
+    private static final Set<Config> configs = new LinkedHashSet<>();
     private static final Map<String, Config> mainConfigs = new HashMap<>();
-    private static final Set<EntryOrigin> origins = new HashSet<>();
+    private static final Set<EntryOrigin> origins = ConcurrentHashMap.newKeySet();
 
     static void registerConfig(Config config) {
         if (!configs.add(config)) {
@@ -27,10 +36,78 @@ public final class ConfigRegistry {
     }
 
     static void registerEntryOrigin(EntryOrigin origin) {
-        if (origins.contains(origin)) {
+        if (!origins.add(origin)) {
             throw new RuntimeException(origin.getField() + " was already resolved");
         }
-        origins.add(origin);
+    }
+
+    /**
+     * Loads all registered configs which were not loaded yet. Configs which enabled parallel loading are loaded on a
+     * bounded worker pool, while the remaining ones are loaded one after another on the calling thread.
+     *
+     * <p>Failing configs do not prevent other configs from being loaded. Afterwards, the failure of the first failed
+     * config in registration order is thrown, with the failures of the other failed configs attached as suppressed
+     * exceptions.
+     *
+     * @see ConfigOptions.Builder#enableParallelLoading()
+     */
+    public static void loadAll() {
+        List<Config> pendingConfigs = configs.stream().filter(config -> !config.isLoadRequested()).toList();
+        long parallelCount = pendingConfigs.stream().filter(Config::isParallelLoadingEnabled).count();
+        ForkJoinPool pool = parallelCount > 1 ? new ForkJoinPool((int) Math.min(parallelCount, Runtime.getRuntime().availableProcessors())) : null;
+        RuntimeException[] failures = new RuntimeException[pendingConfigs.size()];
+        try {
+            List<ForkJoinTask<?>> tasks = new ArrayList<>();
+            for (int i = 0; i < pendingConfigs.size(); i++) {
+                Config config = pendingConfigs.get(i);
+                if (pool == null || !config.isParallelLoadingEnabled()) continue;
+                int index = i;
+                tasks.add(pool.submit(() -> failures[index] = tryLoad(config)));
+            }
+            for (int i = 0; i < pendingConfigs.size(); i++) {
+                Config config = pendingConfigs.get(i);
+                if (pool != null && config.isParallelLoadingEnabled()) continue;
+                failures[i] = tryLoad(config);
+            }
+            for (ForkJoinTask<?> task : tasks) {
+                task.join();
+            }
+        } finally {
+            if (pool != null) {
+                pool.shutdown();
+            }
+        }
+        RuntimeException exception = null;
+        for (RuntimeException failure : failures) {
+            if (failure == null) continue;
+            if (exception == null) {
+                exception = failure;
+            } else {
+                exception.addSuppressed(failure);
+            }
+        }
+        if (exception != null) {
+            throw exception;
+        }
+    }
+
+    /**
+     * Writes all pending asynchronous config saves immediately and waits until they are written. This is also done
+     * automatically on shutdown.
+     *
+     * @see Config#saveAsync()
+     */
+    public static void flushAll() {
+        ConfigWriter.flushAll();
+    }
+
+    private static RuntimeException tryLoad(Config config) {
+        try {
+            config.load();
+            return null;
+        } catch (RuntimeException e) {
+            return new RuntimeException("Failed to load " + config, e);
+        }
     }
 
     /**
@@ -50,19 +127,100 @@ public final class ConfigRegistry {
     }
 
     private final List<Transformation> transformations = Lists.newArrayList(Transformation.DEFAULTS);
+    /**
+     * Caches the first matching transformation per field type and set of declared annotation types. Filters only
+     * depend on these two properties, so all fields sharing them are transformed the same way.
+     */
+    private final Map<TransformationKey, Optional<Transformation>> transformationIndex = new ConcurrentHashMap<>();
+    private volatile int indexedAnnotationsVersion = Transformation.getRegisteredAnnotationsVersion();
+
+    private final Map<Type, EntryCodec<?>> codecIndex = new ConcurrentHashMap<>();
+    private final List<EntryCodec.Factory> codecFactories = new ArrayList<>();
+    private final List<TypeSerializerCollection> typeSerializers = new ArrayList<>();
 
     ConfigRegistry() {
-        for (Collection<Transformation> transformations : CompleteConfig.collectExtensions(DataExtension.class, DataExtension::getTransformations)) {
-            registerTransformations(transformations);
+        for (DataExtension extension : CompleteConfig.getExtensions(DataExtension.class)) {
+            Collection<Transformation> transformations = extension.getTransformations();
+            if (transformations != null) {
+                registerTransformations(transformations);
+            }
+            Collection<EntryCodec.Factory> codecFactories = extension.getEntryCodecs();
+            if (codecFactories != null) {
+                this.codecFactories.addAll(codecFactories);
+            }
+            TypeSerializerCollection typeSerializers = extension.getTypeSerializers();
+            if (typeSerializers != null) {
+                this.typeSerializers.add(typeSerializers);
+            }
         }
     }
 
+    /**
+     * Registers the type serializers of the config options. Types covered by these serializers are not handled by
+     * entry codecs.
+     */
+    void registerTypeSerializers(TypeSerializerCollection typeSerializers) {
+        this.typeSerializers.add(0, typeSerializers);
+        codecIndex.clear();
+    }
+
     void registerTransformations(Collection<Transformation> transformations) {
         this.transformations.addAll(transformations);
+        transformationIndex.clear();
+    }
+
+    Optional<Transformation> findTransformation(EntryOrigin origin) {
+        int annotationsVersion = Transformation.getRegisteredAnnotationsVersion();
+        if (annotationsVersion != indexedAnnotationsVersion) {
+            // Filters created since the index was built may have registered annotations which change their results
+            transformationIndex.clear();
+            indexedAnnotationsVersion = annotationsVersion;
+        }
+        // The version is part of the key, so results computed by concurrent lookups before a registration are not reused after it
+        return transformationIndex.computeIfAbsent(new TransformationKey(origin.getType(), origin.getDeclaredAnnotationTypes(), annotationsVersion), key -> {
+            for (Transformation transformation : transformations) {
+                if (transformation.test(origin)) {
+                    return Optional.of(transformation);
+                }
+            }
+            return Entry.DEFAULT_TRANSFORMATION.test(origin) ? Optional.of(Entry.DEFAULT_TRANSFORMATION) : Optional.empty();
+        });
+    }
+
+    /**
+     * Finds the codec for an entry type. Custom type serializers take precedence, followed by codecs of extensions and
+     * the built-in direct codecs; all other types are handled by type serializers.
+     */
+    EntryCodec<?> findCodec(Type type) {
+        return codecIndex.computeIfAbsent(type, this::createCodec);
     }
 
-    List<Transformation> getTransformations() {
-        return new ArrayList<>(transformations);
+    private EntryCodec<?> createCodec(Type type) {
+        EntryCodec<?> generic = EntryCodecs.generic(type);
+        Type boxedType = ReflectionUtils.boxType(type);
+        for (TypeSerializerCollection typeSerializers : typeSerializers) {
+            if (typeSerializers.get(boxedType) != null) {
+                return generic;
+            }
+        }
+        for (EntryCodec.Factory factory : codecFactories) {
+            EntryCodec<?> codec = factory.create(type);
+            if (codec != null) {
+                return codec;
+            }
+        }
+        EntryCodec<?> direct = EntryCodecs.direct(type, generic);
+        return direct != null ? direct : generic;
+    }
+
+    @RequiredArgsConstructor
+    @EqualsAndHashCode
+    private static final class TransformationKey {
+
+        private final Type type;
+        private final Set<Class<? extends Annotation>> annotationTypes;
+        private final int annotationsVersion;
+
     }
 
 }
@@ -0,0 +1,97 @@
+package me.lortseam.completeconfig.data;
+
+import com.google.common.primitives.Primitives;
+import lombok.NonNull;
+
+import java.util.*;
+
+/**
+ * An immutable view of the entry values of a config at a certain point in time. A config publishes a new snapshot after
+ * it was loaded and when it is requested after one of its entries was updated, so a snapshot can be read from any
+ * thread without observing a partially applied update.
+ *
+ * <p>Values are captured by reference. Mutable values, like lists, must therefore not be modified in place.
+ */
+public final class ConfigSnapshot {
+
+    static final ConfigSnapshot EMPTY = new ConfigSnapshot(Collections.emptyMap(), Collections.emptyMap());
+
+    static ConfigSnapshot of(Parent parent) {
+        Map<String, Entry<?>> entriesByPath = new LinkedHashMap<>();
+        Map<Entry<?>, Object> values = new HashMap<>();
+        collect(parent, "", entriesByPath, values);
+        return new ConfigSnapshot(Collections.unmodifiableMap(entriesByPath), values);
+    }
+
+    private static void collect(Parent parent, String prefix, Map<String, Entry<?>> entriesByPath, Map<Entry<?>, Object> values) {
+        for (Entry<?> entry : parent.getEntries()) {
+            entriesByPath.put(prefix + entry.getId(), entry);
+            values.put(entry, entry.peekValue());
+        }
+        for (Cluster cluster : parent.getClusters()) {
+            collect(cluster, prefix + cluster.getId() + ".", entriesByPath, values);
+        }
+    }
+
+    private final Map<String, Entry<?>> entriesByPath;
+    private final Map<Entry<?>, Object> values;
+
+    private ConfigSnapshot(Map<String, Entry<?>> entriesByPath, Map<Entry<?>, Object> values) {
+        this.entriesByPath = entriesByPath;
+        this.values = values;
+    }
+
+    /**
+     * Creates a snapshot with some values replaced. The structure of the config is shared with this snapshot.
+     *
+     * @param changedValues the new values of the changed entries
+     * @return the new snapshot
+     */
+    ConfigSnapshot with(Map<Entry<?>, Object> changedValues) {
+        Map<Entry<?>, Object> values = new HashMap<>(this.values);
+        changedValues.forEach((entry, value) -> values.replace(entry, value));
+        return new ConfigSnapshot(entriesByPath, values);
+    }
+
+    /**
+     * Gets the value of an entry.
+     *
+     * @param entry the entry
+     * @return the value of the entry at the time this snapshot was taken
+     * @throws IllegalArgumentException if the entry is not part of this snapshot
+     */
+    public <T> T get(@NonNull Entry<T> entry) {
+        Object value = values.get(entry);
+        if (value == null) {
+            throw new IllegalArgumentException(entry + " is not part of this snapshot");
+        }
+        return (T) value;
+    }
+
+    /**
+     * Gets the value of an entry by its path. The path consists of the IDs of the entry's groups and the entry's own ID,
+     * separated by dots.
+     *
+     * @param path the entry path
+     * @param type the value type; primitive types are treated like their wrapper types
+     * @return the value, or an empty optional if there is no entry at that path
+     * @throws ClassCastException if the value is not of the specified type
+     */
+    public <T> Optional<T> get(@NonNull String path, @NonNull Class<T> type) {
+        Entry<?> entry = entriesByPath.get(path);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        return Optional.of((T) Primitives.wrap(type).cast(values.get(entry)));
+    }
+
+    /**
+     * Returns the paths of all entries of this snapshot in declaration order.
+     *
+     * @return the entry paths
+     */
+    public Set<String> getPaths() {
+        return entriesByPath.keySet();
+    }
+
+}
@@ -0,0 +1,90 @@
+package me.lortseam.completeconfig.data;
+
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.spongepowered.configurate.CommentedConfigurationNode;
+import org.spongepowered.configurate.serialize.SerializationException;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Applies entry values received from a {@link ConfigSyncServer}. Received values are applied as overlays, so they are
+ * never written to the client's config files, and the local values are restored on {@link #disconnect()}.
+ *
+ * @see ConfigSyncServer
+ */
+@Slf4j(topic = "CompleteConfig")
+public final class ConfigSyncClient {
+
+    private final List<SyncedEntries> configs = new ArrayList<>();
+
+    /**
+     * Creates a sync client for the specified configs. The configs must be specified in the same order as on the server.
+     *
+     * @param configs the configs to synchronize
+     */
+    public ConfigSyncClient(@NonNull List<Config> configs) {
+        for (Config config : configs) {
+            this.configs.add(new SyncedEntries(config));
+        }
+    }
+
+    /**
+     * Applies a payload sent by the server. Should be called on the thread the configs are used on, since entry
+     * listeners are notified.
+     *
+     * @param payload the payload
+     */
+    public void receive(@NonNull byte[] payload) {
+        ByteBuffer buffer = ByteBuffer.wrap(payload);
+        byte type = buffer.get();
+        if (type != SyncedEntries.SNAPSHOT && type != SyncedEntries.DELTA) {
+            throw new IllegalArgumentException("Unknown sync payload type " + type);
+        }
+        int configCount = buffer.getInt();
+        for (int i = 0; i < configCount; i++) {
+            int index = buffer.getInt();
+            long fingerprint = buffer.getLong();
+            int length = buffer.getInt();
+            ByteBuffer section = buffer.slice(buffer.position(), length);
+            buffer.position(buffer.position() + length);
+            if (index < 0 || index >= configs.size()) {
+                logger.warn("Received values for unknown synced config " + index);
+                continue;
+            }
+            SyncedEntries config = configs.get(index);
+            if (config.getFingerprint() != fingerprint) {
+                logger.warn("Structure of " + config.getConfig() + " differs from the server, values are not synced");
+                continue;
+            }
+            config.getConfig().batch(() -> apply(config, section));
+        }
+    }
+
+    private void apply(SyncedEntries config, ByteBuffer section) {
+        CommentedConfigurationNode node = config.getConfig().createValueNode();
+        while (section.hasRemaining()) {
+            Entry<?> entry = config.getEntries().get(section.getInt());
+            node.raw(BinaryValues.read(section));
+            try {
+                if (!entry.readOverlay(this, node)) {
+                    logger.warn("Synced value is not applied to entry " + entry + " since it already has an overlay");
+                }
+            } catch (SerializationException e) {
+                logger.error("Failed to apply synced value to entry " + entry, e);
+            }
+        }
+    }
+
+    /**
+     * Removes all synced values and restores the local values.
+     */
+    public void disconnect() {
+        for (SyncedEntries config : configs) {
+            config.getConfig().batch(() -> config.getEntries().forEach(entry -> entry.removeOverlay(this)));
+        }
+    }
+
+}
@@ -0,0 +1,148 @@
+package me.lortseam.completeconfig.data;
+
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.spongepowered.configurate.CommentedConfigurationNode;
+import org.spongepowered.configurate.serialize.SerializationException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.function.Consumer;
+
+/**
+ * Synchronizes the synced entries of configs from a server to its clients. Clients receive a snapshot of all synced
+ * entries when they connect; afterwards, changed entries are sent in batches whenever {@link #flush()} is called, for
+ * example once per server tick.
+ *
+ * <p>The server and its clients must create their sync objects with the same configs in the same order. Configs and
+ * entries are identified by their indices; configs whose structure differs between server and client are not synced.
+ *
+ * @see ConfigOptions.Builder#enableSync()
+ * @see me.lortseam.completeconfig.api.ConfigEntry#synced()
+ */
+@Slf4j(topic = "CompleteConfig")
+public final class ConfigSyncServer {
+
+    private final List<SyncedEntries> configs = new ArrayList<>();
+    private final Set<SyncConnection> connections = new CopyOnWriteArraySet<>();
+    private final Set<Entry<?>> changedEntries = new LinkedHashSet<>();
+    private final Consumer<EntryUpdateEvent<?>> listener = event -> {
+        if (!event.getEntry().isSynced()) return;
+        synchronized (this) {
+            changedEntries.add(event.getEntry());
+        }
+    };
+
+    /**
+     * Creates a sync server for the specified configs.
+     *
+     * @param configs the configs to synchronize
+     */
+    public ConfigSyncServer(@NonNull List<Config> configs) {
+        for (Config config : configs) {
+            this.configs.add(new SyncedEntries(config));
+            config.subscribe(listener);
+        }
+    }
+
+    /**
+     * Connects a client and sends it a snapshot of all synced entries.
+     *
+     * @param connection the connection to the client
+     */
+    public synchronized void connect(@NonNull SyncConnection connection) {
+        Map<SyncedEntries, Collection<Entry<?>>> entries = new LinkedHashMap<>();
+        for (SyncedEntries config : configs) {
+            entries.put(config, config.getEntries());
+        }
+        connection.send(encode(SyncedEntries.SNAPSHOT, entries));
+        connections.add(connection);
+    }
+
+    /**
+     * Disconnects a client. No further payloads are sent to it.
+     *
+     * @param connection the connection to the client
+     */
+    public void disconnect(@NonNull SyncConnection connection) {
+        connections.remove(connection);
+    }
+
+    /**
+     * Sends all entries which changed since the last flush to the connected clients, batched into a single payload.
+     */
+    public synchronized void flush() {
+        if (changedEntries.isEmpty()) return;
+        if (!connections.isEmpty()) {
+            Map<SyncedEntries, Collection<Entry<?>>> entries = new LinkedHashMap<>();
+            for (SyncedEntries config : configs) {
+                List<Entry<?>> changedConfigEntries = new ArrayList<>();
+                for (Entry<?> entry : config.getEntries()) {
+                    if (changedEntries.contains(entry)) {
+                        changedConfigEntries.add(entry);
+                    }
+                }
+                if (!changedConfigEntries.isEmpty()) {
+                    entries.put(config, changedConfigEntries);
+                }
+            }
+            byte[] payload = encode(SyncedEntries.DELTA, entries);
+            for (SyncConnection connection : connections) {
+                connection.send(payload);
+            }
+        }
+        changedEntries.clear();
+    }
+
+    /**
+     * Stops tracking changes of the configs and disconnects all clients.
+     */
+    public void close() {
+        for (SyncedEntries config : configs) {
+            config.getConfig().unsubscribe(listener);
+        }
+        connections.clear();
+    }
+
+    private byte[] encode(byte type, Map<SyncedEntries, Collection<Entry<?>>> entries) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(type);
+            out.writeInt(entries.size());
+            for (Map.Entry<SyncedEntries, Collection<Entry<?>>> configEntries : entries.entrySet()) {
+                SyncedEntries config = configEntries.getKey();
+                byte[] section = encodeSection(config, configEntries.getValue());
+                out.writeInt(configs.indexOf(config));
+                out.writeLong(config.getFingerprint());
+                out.writeInt(section.length);
+                out.write(section);
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private byte[] encodeSection(SyncedEntries config, Collection<Entry<?>> entries) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        for (Entry<?> entry : entries) {
+            CommentedConfigurationNode node = config.getConfig().createValueNode();
+            ByteArrayOutputStream valueBytes = new ByteArrayOutputStream();
+            try {
+                entry.fetchEffective(node);
+                BinaryValues.write(new DataOutputStream(valueBytes), node.raw());
+            } catch (SerializationException | UnsupportedOperationException e) {
+                logger.error("Failed to encode value of synced entry " + entry, e);
+                continue;
+            }
+            out.writeInt(config.getId(entry));
+            valueBytes.writeTo(out);
+        }
+        return bytes.toByteArray();
+    }
+
+}
@@ -0,0 +1,106 @@
+package me.lortseam.completeconfig.data;
+
+import lombok.experimental.UtilityClass;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.file.*;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Watches config files for modifications and reloads the affected configs. Bursts of modifications, like editors
+ * saving a file in several steps, are debounced.
+ */
+@Slf4j(topic = "CompleteConfig")
+@UtilityClass
+class ConfigWatcher {
+
+    private final long DEBOUNCE_NANOS = Duration.ofMillis(500).toNanos();
+    private final Map<Path, WatchedFile> watchedFiles = new ConcurrentHashMap<>();
+    private final Set<Path> watchedDirectories = new HashSet<>();
+    private WatchService watchService;
+
+    void watch(Config config, Path path, Executor executor) {
+        path = path.toAbsolutePath().normalize();
+        Path directory = path.getParent();
+        synchronized (watchedDirectories) {
+            try {
+                if (watchService == null) {
+                    watchService = path.getFileSystem().newWatchService();
+                    Thread thread = new Thread(ConfigWatcher::run, "CompleteConfig Watcher");
+                    thread.setDaemon(true);
+                    thread.start();
+                }
+                if (!watchedDirectories.contains(directory)) {
+                    directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+                    watchedDirectories.add(directory);
+                }
+            } catch (IOException e) {
+                logger.error("Failed to watch config file " + path, e);
+                return;
+            }
+        }
+        watchedFiles.put(path, new WatchedFile(config, executor));
+    }
+
+    private void run() {
+        Map<Path, Long> deadlines = new HashMap<>();
+        try {
+            while (true) {
+                WatchKey key;
+                if (deadlines.isEmpty()) {
+                    key = watchService.take();
+                } else {
+                    long timeout = Collections.min(deadlines.values()) - System.nanoTime();
+                    key = watchService.poll(Math.max(timeout, 0), TimeUnit.NANOSECONDS);
+                }
+                if (key != null) {
+                    Path directory = (Path) key.watchable();
+                    for (WatchEvent<?> event : key.pollEvents()) {
+                        if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                            for (Path path : watchedFiles.keySet()) {
+                                if (path.getParent().equals(directory)) {
+                                    deadlines.put(path, System.nanoTime() + DEBOUNCE_NANOS);
+                                }
+                            }
+                            continue;
+                        }
+                        Path path = directory.resolve((Path) event.context());
+                        if (watchedFiles.containsKey(path)) {
+                            deadlines.put(path, System.nanoTime() + DEBOUNCE_NANOS);
+                        }
+                    }
+                    key.reset();
+                }
+                long now = System.nanoTime();
+                deadlines.entrySet().removeIf(deadline -> {
+                    if (deadline.getValue() - now > 0) return false;
+                    WatchedFile watchedFile = watchedFiles.get(deadline.getKey());
+                    try {
+                        watchedFile.executor.execute(watchedFile.config::reloadIfModified);
+                    } catch (RuntimeException e) {
+                        logger.error("Failed to reload " + watchedFile.config, e);
+                    }
+                    return true;
+                });
+            }
+        } catch (InterruptedException | ClosedWatchServiceException ignore) {}
+    }
+
+    private static final class WatchedFile {
+
+        private final Config config;
+        private final Executor executor;
+
+        private WatchedFile(Config config, Executor executor) {
+            this.config = config;
+            this.executor = executor;
+        }
+
+    }
+
+}
@@ -0,0 +1,100 @@
+package me.lortseam.completeconfig.data;
+
+import lombok.experimental.UtilityClass;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+
+/**
+ * Writes config files on a background thread. Writes to the same file which are requested while a write is still
+ * pending are coalesced, so only the latest content is written once the delay of the first request has passed.
+ */
+@Slf4j(topic = "CompleteConfig")
+@UtilityClass
+class ConfigWriter {
+
+    private final Map<Path, PendingWrite> pendingWrites = new HashMap<>();
+    private ScheduledExecutorService executor;
+
+    CompletableFuture<Void> write(Path path, String content, SyncPolicy syncPolicy, Duration delay) {
+        synchronized (pendingWrites) {
+            PendingWrite pendingWrite = pendingWrites.get(path);
+            if (pendingWrite == null) {
+                pendingWrite = new PendingWrite();
+                pendingWrites.put(path, pendingWrite);
+                getExecutor().schedule(() -> flush(path), delay.toNanos(), TimeUnit.NANOSECONDS);
+            }
+            pendingWrite.content = content;
+            pendingWrite.syncPolicy = syncPolicy;
+            return pendingWrite.future;
+        }
+    }
+
+    /**
+     * Writes all pending files immediately and waits until they were written.
+     */
+    void flushAll() {
+        Future<?> task;
+        synchronized (pendingWrites) {
+            if (executor == null) return;
+            // Writes always run on the writer thread, so they never overlap
+            task = executor.submit(() -> {
+                List<Path> paths;
+                synchronized (pendingWrites) {
+                    paths = List.copyOf(pendingWrites.keySet());
+                }
+                paths.forEach(ConfigWriter::flush);
+            });
+        }
+        try {
+            task.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            logger.error("Failed to flush pending config writes", e);
+        }
+    }
+
+    private ScheduledExecutorService getExecutor() {
+        if (executor == null) {
+            executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "CompleteConfig Writer");
+                thread.setDaemon(true);
+                return thread;
+            });
+            Runtime.getRuntime().addShutdownHook(new Thread(ConfigWriter::flushAll, "CompleteConfig Writer Shutdown"));
+        }
+        return executor;
+    }
+
+    private void flush(Path path) {
+        PendingWrite pendingWrite;
+        synchronized (pendingWrites) {
+            pendingWrite = pendingWrites.remove(path);
+        }
+        // Already written by a flush
+        if (pendingWrite == null) return;
+        try {
+            ConfigFileWriter.write(path, pendingWrite.content, pendingWrite.syncPolicy);
+            pendingWrite.future.complete(null);
+        } catch (IOException | RuntimeException e) {
+            logger.error("Failed to save config file " + path, e);
+            pendingWrite.future.completeExceptionally(e);
+        }
+    }
+
+    private static final class PendingWrite {
+
+        private final CompletableFuture<Void> future = new CompletableFuture<>();
+        private String content;
+        private SyncPolicy syncPolicy;
+
+    }
+
+}
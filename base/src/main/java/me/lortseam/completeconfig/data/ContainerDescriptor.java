@@ -0,0 +1,128 @@
+package me.lortseam.completeconfig.data;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import me.lortseam.completeconfig.api.ConfigContainer;
+import me.lortseam.completeconfig.api.ConfigEntries;
+import me.lortseam.completeconfig.api.ConfigEntry;
+import me.lortseam.completeconfig.util.ReflectionUtils;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
+import java.util.*;
+
+/**
+ * The resolution metadata of a container class. It is computed once per class, so resolving further instances of the
+ * same class only binds the instance to the cached fields. If the annotation processor generated a
+ * {@link GeneratedContainerDescriptor} for the class, that one is used instead of scanning the class.
+ */
+final class ContainerDescriptor {
+
+    private static final ClassValue<ContainerDescriptor> descriptors = new ClassValue<>() {
+        @Override
+        protected ContainerDescriptor computeValue(Class<?> type) {
+            return new ContainerDescriptor(type);
+        }
+    };
+
+    static ContainerDescriptor of(Class<?> clazz) {
+        return descriptors.get(clazz);
+    }
+
+    @Getter(AccessLevel.PACKAGE)
+    private final ConfigEntries classAnnotation;
+    private final Map<Field, EntryField> entryFields = new LinkedHashMap<>();
+    @Getter(AccessLevel.PACKAGE)
+    private final List<Field> transitiveFields = new ArrayList<>();
+    @Getter(AccessLevel.PACKAGE)
+    private final List<Class<? extends ConfigContainer>> transitiveClasses = new ArrayList<>();
+
+    private static GeneratedContainerDescriptor findGenerated(Class<?> clazz) {
+        String className = clazz.getName().substring(clazz.getPackageName().isEmpty() ? 0 : clazz.getPackageName().length() + 1);
+        String generatedName = (clazz.getPackageName().isEmpty() ? "" : clazz.getPackageName() + ".") + className.replace('$', '_') + GeneratedContainerDescriptor.CLASS_NAME_SUFFIX;
+        Class<?> generatedClass;
+        try {
+            generatedClass = Class.forName(generatedName, true, clazz.getClassLoader());
+        } catch (ClassNotFoundException e) {
+            return null;
+        }
+        if (!GeneratedContainerDescriptor.class.isAssignableFrom(generatedClass)) {
+            return null;
+        }
+        try {
+            return (GeneratedContainerDescriptor) ReflectionUtils.instantiateClass(generatedClass);
+        } catch (NoSuchMethodException | IllegalAccessException | InstantiationException | InvocationTargetException e) {
+            throw new RuntimeException("Failed to instantiate generated descriptor " + generatedClass, e);
+        }
+    }
+
+    private ContainerDescriptor(Class<?> clazz) {
+        classAnnotation = clazz.getDeclaredAnnotation(ConfigEntries.class);
+        GeneratedContainerDescriptor generated = findGenerated(clazz);
+        if (generated != null) {
+            try {
+                for (String name : generated.getEntryFields()) {
+                    Field field = clazz.getDeclaredField(name);
+                    entryFields.put(field, new EntryField(field, generated.getAccessor(name)));
+                }
+                for (String name : generated.getTransitiveFields()) {
+                    Field field = clazz.getDeclaredField(name);
+                    field.setAccessible(true);
+                    transitiveFields.add(field);
+                }
+            } catch (NoSuchFieldException e) {
+                throw new RuntimeException("Generated descriptor of " + clazz + " is out of date", e);
+            }
+            Class<?>[] nestedClasses = generated.getTransitiveClasses();
+            for (int i = nestedClasses.length - 1; i >= 0; i--) {
+                transitiveClasses.add((Class<? extends ConfigContainer>) nestedClasses[i]);
+            }
+            return;
+        }
+        boolean includeAll = classAnnotation != null && classAnnotation.includeAll();
+        for (Field field : clazz.getDeclaredFields()) {
+            boolean isEntry;
+            if (includeAll) {
+                isEntry = !ConfigContainer.class.isAssignableFrom(field.getType()) && !field.isAnnotationPresent(ConfigEntries.Exclude.class) && !Modifier.isTransient(field.getModifiers());
+            } else {
+                isEntry = field.isAnnotationPresent(ConfigEntry.class);
+            }
+            if (isEntry) {
+                if (Modifier.isFinal(field.getModifiers())) {
+                    throw new RuntimeException("Entry field " + field + " must not be final");
+                }
+                entryFields.put(field, new EntryField(field));
+            }
+            if (field.isAnnotationPresent(ConfigContainer.Transitive.class)) {
+                if (!ConfigContainer.class.isAssignableFrom(field.getType())) {
+                    throw new RuntimeException("Transitive field " + field + " must implement " + ConfigContainer.class.getSimpleName());
+                }
+                field.setAccessible(true);
+                transitiveFields.add(field);
+            }
+        }
+        Class<?>[] nestedClasses = clazz.getDeclaredClasses();
+        for (int i = nestedClasses.length - 1; i >= 0; i--) {
+            Class<?> nestedClass = nestedClasses[i];
+            if (!nestedClass.isAnnotationPresent(ConfigContainer.Transitive.class)) continue;
+            if (!ConfigContainer.class.isAssignableFrom(nestedClass)) {
+                throw new RuntimeException("Transitive " + nestedClass + " must implement " + ConfigContainer.class.getSimpleName());
+            }
+            if (!Modifier.isStatic(nestedClass.getModifiers())) {
+                throw new RuntimeException("Transitive " + nestedClass + " must be static");
+            }
+            transitiveClasses.add((Class<? extends ConfigContainer>) nestedClass);
+        }
+    }
+
+    Collection<EntryField> getEntryFields() {
+        return Collections.unmodifiableCollection(entryFields.values());
+    }
+
+    EntryField getEntryField(Field field) {
+        EntryField entryField = entryFields.get(field);
+        return entryField != null ? entryField : new EntryField(field);
+    }
+
+}
@@ -0,0 +1,41 @@
+package me.lortseam.completeconfig.data;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Reads and writes the value of an entry of type {@code double} or {@link Double} without boxing it. The type of the
+ * entry is checked once when the access is created.
+ *
+ * @see Entry#asDouble()
+ */
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+public final class DoubleAccess {
+
+    @Getter
+    private final Entry<Double> entry;
+
+    /**
+     * Returns the value of the entry.
+     *
+     * @return the current value
+     *
+     * @see Entry#getValue()
+     */
+    public double get() {
+        return entry.getDouble();
+    }
+
+    /**
+     * Sets the value of the entry. The value is only boxed if it differs from the current value.
+     *
+     * @param value the new value
+     *
+     * @see Entry#setValue(Object)
+     */
+    public void set(double value) {
+        entry.setDouble(value);
+    }
+
+}
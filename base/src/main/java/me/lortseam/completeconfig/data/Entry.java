@@ -1,5 +1,7 @@
 package me.lortseam.completeconfig.data;
 
+import com.google.common.primitives.Primitives;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NonNull;
 import lombok.experimental.Accessors;
@@ -13,31 +15,32 @@ import me.lortseam.completeconfig.data.structure.client.Translatable;
 import me.lortseam.completeconfig.data.transform.Transformation;
 import me.lortseam.completeconfig.text.TranslationBase;
 import me.lortseam.completeconfig.text.TranslationKey;
-import me.lortseam.completeconfig.util.ReflectionUtils;
 import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
 import net.minecraft.text.Text;
 import org.spongepowered.configurate.CommentedConfigurationNode;
 import org.spongepowered.configurate.serialize.SerializationException;
 
+import java.awt.Color;
 import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Type;
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.UnaryOperator;
-import java.util.stream.Stream;
 
 @Slf4j(topic = "CompleteConfig")
 public class Entry<T> implements StructurePart, Identifiable, Translatable, DescriptionSupplier {
 
-    private static final Transformation DEFAULT_TRANSFORMATION = new Transformation(Transformation.filter(), Entry::new);
+    static final Transformation DEFAULT_TRANSFORMATION = new Transformation(Transformation.filter(), Entry::new);
 
     static Entry<?> create(EntryOrigin origin) {
-        return Stream.concat(origin.getRoot().getRegistry().getTransformations().stream(), Stream.of(DEFAULT_TRANSFORMATION)).filter(transformation -> {
-            return transformation.test(origin);
-        }).findFirst().orElseThrow(() -> {
+        return origin.getRoot().getRegistry().findTransformation(origin).orElseThrow(() -> {
             return new UnsupportedOperationException("No suitable transformation found for field " + origin.getField());
         }).getTransformer().transform(origin);
     }
@@ -56,24 +59,38 @@ public class Entry<T> implements StructurePart, Identifiable, Translatable, Desc
     @Accessors(fluent = true)
     @Getter
     private final boolean requiresRestart;
+    @Getter(AccessLevel.PACKAGE)
     private final String comment;
-    private final Setter<T> setter;
+    private final EntryAccessor accessor;
+    private final EntryCodec<T> codec;
     private final UnaryOperator<T> revisor;
+    private final boolean revisedOnRead;
+    private final List<EventSubscription<EntryUpdateEvent<T>>> subscriptions = new CopyOnWriteArrayList<>();
+    private final boolean immutableValue;
+    private boolean saved;
+    private Object savedState;
+    @Getter(AccessLevel.PACKAGE)
+    private final boolean synced;
+    private boolean overlaid;
+    private Object overlayOwner;
+    private T localValue;
 
     protected Entry(EntryOrigin origin, UnaryOperator<T> revisor) {
         ConfigRegistry.registerEntryOrigin(origin);
         this.origin = origin;
         this.revisor = revisor;
-        if (!getField().canAccess(origin.getObject())) {
-            getField().setAccessible(true);
-        }
-        typeClass = (Class<T>) ReflectionUtils.getTypeClass(origin.getType());
+        accessor = origin.getAccessor();
+        codec = (EntryCodec<T>) origin.getRoot().getRegistry().findCodec(origin.getType());
+        revisedOnRead = !origin.getRoot().isReadRevisionDisabled();
+        typeClass = (Class<T>) origin.getTypeClass();
+        immutableValue = Primitives.isWrapperType(Primitives.wrap(typeClass)) || typeClass == String.class || typeClass.isEnum() || typeClass == Color.class;
         Optional<ConfigEntry> annotation = origin.getMainAnnotation();
         id = annotation.isPresent() && !annotation.get().value().isBlank() ? annotation.get().value() : getField().getName();
         requiresRestart = annotation.isPresent() && annotation.get().requiresRestart();
         comment = annotation.isPresent() && !annotation.get().comment().isBlank() ? annotation.get().comment() : null;
-        setter = ReflectionUtils.getSetterMethod(getField(), origin.getObject()).<Setter<T>>map(method -> method::invoke).orElse((object, value) -> getField().set(object, value));
-        defaultValue = getValue();
+        synced = annotation.isPresent() && annotation.get().synced() || origin.getRoot().isSyncEnabled();
+        // Revised even if values are not revised on read, so the default value is always valid
+        defaultValue = revisedOnRead ? getValue() : revise(getFieldValue());
     }
 
     protected Entry(EntryOrigin origin) {
@@ -93,47 +110,412 @@ public class Entry<T> implements StructurePart, Identifiable, Translatable, Desc
     }
 
     public final T getValue() {
-        if (update()) {
+        if (revisedOnRead && update()) {
             return getValue();
         }
         return getFieldValue();
     }
 
+    /**
+     * Returns the current field value without revising it. Unlike {@link #getValue()}, this never writes to the field
+     * or notifies listeners.
+     *
+     * @return the current field value
+     *
+     * @see Parent#validate()
+     */
+    public final T peekValue() {
+        return getFieldValue();
+    }
+
     private T getFieldValue() {
-        try {
-            return (T) Objects.requireNonNull(getField().get(origin.getObject()), getField().toString());
-        } catch (IllegalAccessException e) {
-            throw new RuntimeException("Failed to get entry value", e);
-        }
+        return (T) Objects.requireNonNull(accessor.get(origin.getObject()), getField().toString());
     }
 
+    /**
+     * Sets the value of this entry. While an overlay is applied, only the local value is changed; it becomes visible
+     * once the overlay is removed.
+     *
+     * @param value the new value
+     */
     public final void setValue(@NonNull T value) {
+        if (overlaid) {
+            localValue = revise(value);
+            return;
+        }
         update(value);
     }
 
-    private boolean update() {
+    final T revise(T value) {
+        return revisor != null ? revisor.apply(value) : value;
+    }
+
+    /**
+     * Returns the value that is saved to the config file. This is the field value, unless an overlay is applied.
+     */
+    final T getLocalValue() {
+        return overlaid ? localValue : getFieldValue();
+    }
+
+    /**
+     * Returns whether an overlay is applied to this entry.
+     *
+     * @return {@code true} if the current value is an overlay value
+     */
+    public final boolean isOverlaid() {
+        return overlaid;
+    }
+
+    /**
+     * Applies an overlay value. The value replaces the field value, but is never saved; the previous value is kept as
+     * local value and restored by {@link #removeOverlay(Object)}. An overlay can only be replaced by its owner.
+     *
+     * @param owner the owner of the overlay, e.g. a bound view
+     * @return whether the value was applied, i.e. the entry had no overlay of another owner
+     */
+    final boolean applyOverlay(Object owner, T value) {
+        if (!overlaid) {
+            localValue = getFieldValue();
+            overlaid = true;
+            overlayOwner = owner;
+        } else if (overlayOwner != owner) {
+            return false;
+        }
+        update(value);
+        return true;
+    }
+
+    /**
+     * Applies an overlay value read from a node.
+     *
+     * @return whether the value was applied
+     * @throws SerializationException if the node does not contain a valid value
+     * @see #applyOverlay(Object, Object)
+     */
+    final boolean readOverlay(Object owner, CommentedConfigurationNode node) throws SerializationException {
+        T value = codec.read(node);
+        if (value == null) {
+            throw new SerializationException(node, getType(), "Unable to deserialize value of this type");
+        }
+        return applyOverlay(owner, value);
+    }
+
+    /**
+     * Removes the overlay and restores the local value. Does nothing if the overlay belongs to another owner.
+     *
+     * @param owner the owner of the overlay
+     */
+    final void removeOverlay(Object owner) {
+        if (!overlaid || overlayOwner != owner) return;
+        T value = localValue;
+        overlaid = false;
+        overlayOwner = null;
+        localValue = null;
+        update(value);
+    }
+
+    /**
+     * Returns whether the value of this entry changed since the config was last saved. Values of mutable types, like
+     * lists, are compared by their serialized form, so modifications made in place are detected as well.
+     *
+     * @return {@code true} if the value may have changed since the last save
+     */
+    public final boolean isDirty() {
+        if (!saved) return true;
+        Object state = captureState(getLocalValue());
+        return state == null || !state.equals(savedState);
+    }
+
+    /**
+     * Remembers the current value as saved.
+     */
+    final void markSaved() {
+        savedState = captureState(getLocalValue());
+        saved = true;
+    }
+
+    /**
+     * Fetches the value of this entry if it changed since the config was last saved, and remembers it as saved. Values
+     * of mutable types are serialized only once; the serialized value is both compared and fetched.
+     *
+     * @return whether the value was fetched
+     */
+    final boolean fetchIfDirty(CommentedConfigurationNode node) {
+        T value = overlaid ? localValue : getValue();
+        if (immutableValue) {
+            if (saved && value.equals(savedState)) return false;
+            fetch(node, value);
+            savedState = value;
+        } else {
+            CommentedConfigurationNode valueNode = serialize(value);
+            Object state = valueNode != null ? valueNode.raw() : null;
+            if (saved && state != null && state.equals(savedState)) return false;
+            if (valueNode != null) {
+                node.from(valueNode);
+                if (comment != null) {
+                    node.comment(comment);
+                }
+            } else {
+                fetch(node, value);
+            }
+            savedState = state;
+        }
+        saved = true;
+        return true;
+    }
+
+    /**
+     * Captures a value for comparison with later values. Values of mutable types are serialized, since the value
+     * itself may be modified in place.
+     *
+     * @return the captured state, or {@code null} if the value cannot be captured
+     */
+    private Object captureState(T value) {
+        if (immutableValue) return value;
+        CommentedConfigurationNode node = serialize(value);
+        return node != null ? node.raw() : null;
+    }
+
+    private CommentedConfigurationNode serialize(T value) {
+        CommentedConfigurationNode node = origin.getRoot().createValueNode();
+        try {
+            codec.write(node, value);
+        } catch (SerializationException e) {
+            return null;
+        }
+        return node;
+    }
+
+    /**
+     * Creates an unboxed access to the value of this entry.
+     *
+     * @return the access
+     * @throws UnsupportedOperationException if this entry is not of type {@code int} or {@link Integer}
+     */
+    public final IntAccess asInt() {
+        requirePrimitiveType(int.class);
+        return new IntAccess((Entry<Integer>) this);
+    }
+
+    /**
+     * Creates an unboxed access to the value of this entry.
+     *
+     * @return the access
+     * @throws UnsupportedOperationException if this entry is not of type {@code long} or {@link Long}
+     */
+    public final LongAccess asLong() {
+        requirePrimitiveType(long.class);
+        return new LongAccess((Entry<Long>) this);
+    }
+
+    /**
+     * Creates an unboxed access to the value of this entry.
+     *
+     * @return the access
+     * @throws UnsupportedOperationException if this entry is not of type {@code float} or {@link Float}
+     */
+    public final FloatAccess asFloat() {
+        requirePrimitiveType(float.class);
+        return new FloatAccess((Entry<Float>) this);
+    }
+
+    /**
+     * Creates an unboxed access to the value of this entry.
+     *
+     * @return the access
+     * @throws UnsupportedOperationException if this entry is not of type {@code double} or {@link Double}
+     */
+    public final DoubleAccess asDouble() {
+        requirePrimitiveType(double.class);
+        return new DoubleAccess((Entry<Double>) this);
+    }
+
+    /**
+     * Creates an unboxed access to the value of this entry.
+     *
+     * @return the access
+     * @throws UnsupportedOperationException if this entry is not of type {@code boolean} or {@link Boolean}
+     */
+    public final BooleanAccess asBoolean() {
+        requirePrimitiveType(boolean.class);
+        return new BooleanAccess((Entry<Boolean>) this);
+    }
+
+    private void requirePrimitiveType(Class<?> type) {
+        if (accessor.getPrimitiveType() != type) {
+            throw new UnsupportedOperationException(this + " is not of type " + type);
+        }
+    }
+
+    /**
+     * Returns the value of an entry of type {@code int} or {@link Integer} without boxing it. The type is checked by
+     * {@link #asInt()}.
+     */
+    final int getInt() {
+        int value = accessor.getInt(origin.getObject());
+        if (revisedOnRead && !isRevised(value)) {
+            return ((Number) getValue()).intValue();
+        }
+        return value;
+    }
+
+    final void setInt(int value) {
+        if (!overlaid && isRevised(value) && value == accessor.getInt(origin.getObject())) return;
+        setValue((T) Integer.valueOf(value));
+    }
+
+    /**
+     * Returns the value of an entry of type {@code long} or {@link Long} without boxing it. The type is checked by
+     * {@link #asLong()}.
+     */
+    final long getLong() {
+        long value = accessor.getLong(origin.getObject());
+        if (revisedOnRead && !isRevised(value)) {
+            return ((Number) getValue()).longValue();
+        }
+        return value;
+    }
+
+    final void setLong(long value) {
+        if (!overlaid && isRevised(value) && value == accessor.getLong(origin.getObject())) return;
+        setValue((T) Long.valueOf(value));
+    }
+
+    /**
+     * Returns the value of an entry of type {@code float} or {@link Float} without boxing it. The type is checked by
+     * {@link #asFloat()}.
+     */
+    final float getFloat() {
+        float value = accessor.getFloat(origin.getObject());
+        if (revisedOnRead && !isRevised(value)) {
+            return ((Number) getValue()).floatValue();
+        }
+        return value;
+    }
+
+    final void setFloat(float value) {
+        if (!overlaid && isRevised(value) && Float.floatToIntBits(value) == Float.floatToIntBits(accessor.getFloat(origin.getObject()))) return;
+        setValue((T) Float.valueOf(value));
+    }
+
+    /**
+     * Returns the value of an entry of type {@code double} or {@link Double} without boxing it. The type is checked by
+     * {@link #asDouble()}.
+     */
+    final double getDouble() {
+        double value = accessor.getDouble(origin.getObject());
+        if (revisedOnRead && !isRevised(value)) {
+            return ((Number) getValue()).doubleValue();
+        }
+        return value;
+    }
+
+    final void setDouble(double value) {
+        if (!overlaid && isRevised(value) && Double.doubleToLongBits(value) == Double.doubleToLongBits(accessor.getDouble(origin.getObject()))) return;
+        setValue((T) Double.valueOf(value));
+    }
+
+    /**
+     * Returns the value of an entry of type {@code boolean} or {@link Boolean} without boxing it. The type is checked
+     * by {@link #asBoolean()}.
+     */
+    final boolean getBoolean() {
+        boolean value = accessor.getBoolean(origin.getObject());
+        if (revisedOnRead && revisor != null) {
+            return (Boolean) getValue();
+        }
+        return value;
+    }
+
+    final void setBoolean(boolean value) {
+        if (!overlaid && revisor == null && value == accessor.getBoolean(origin.getObject())) return;
+        setValue((T) Boolean.valueOf(value));
+    }
+
+    /**
+     * Checks whether an integral value is already revised, i.e. whether the revisor would return it unchanged. Used by
+     * the primitive accessors to skip revision without boxing.
+     *
+     * @param value the value to check
+     * @return {@code true} if the value does not need to be revised
+     */
+    boolean isRevised(long value) {
+        return revisor == null;
+    }
+
+    /**
+     * Checks whether a floating point value is already revised, i.e. whether the revisor would return it unchanged.
+     * Used by the primitive accessors to skip revision without boxing.
+     *
+     * @param value the value to check
+     * @return {@code true} if the value does not need to be revised
+     */
+    boolean isRevised(double value) {
+        return revisor == null;
+    }
+
+    final boolean update() {
         return update(getFieldValue());
     }
 
     private boolean update(T value) {
-        if (revisor != null) {
-            value = revisor.apply(value);
-        }
-        if (value.equals(getFieldValue())) {
+        value = revise(value);
+        T oldValue = getFieldValue();
+        if (value.equals(oldValue)) {
             return false;
         }
         set(value);
-        origin.getContainer().onContainerEntryUpdate();
-        origin.getRoot().onConfigEntryUpdate();
+        if (!origin.getRoot().deferEntryUpdate(this, oldValue)) {
+            List<Entry<?>> updatedEntries = Collections.singletonList(this);
+            origin.getContainer().onContainerEntriesUpdate(updatedEntries);
+            origin.getRoot().onConfigEntriesUpdate(updatedEntries);
+            origin.getRoot().publishValues(updatedEntries);
+            dispatchUpdate(oldValue);
+        }
         return true;
     }
 
-    private void set(T value) {
-        try {
-            setter.set(origin.getObject(), value);
-        } catch (IllegalAccessException | InvocationTargetException e) {
-            throw new RuntimeException("Failed to set entry value", e);
+    void dispatchUpdate(T oldValue) {
+        if (subscriptions.isEmpty() && !origin.getRoot().hasSubscriptions()) return;
+        T newValue = getFieldValue();
+        if (newValue.equals(oldValue)) return;
+        var event = new EntryUpdateEvent<>(this, oldValue, newValue);
+        for (EventSubscription<EntryUpdateEvent<T>> subscription : subscriptions) {
+            subscription.dispatch(event);
         }
+        origin.getRoot().dispatchUpdate(event);
+    }
+
+    /**
+     * Subscribes to updates of this entry. The listener is called on the updating thread.
+     *
+     * @param listener the listener
+     */
+    public final void subscribe(@NonNull Consumer<EntryUpdateEvent<T>> listener) {
+        subscriptions.add(new EventSubscription<>(listener, null));
+    }
+
+    /**
+     * Subscribes to updates of this entry. The listener is called by the specified executor.
+     *
+     * @param listener the listener
+     * @param executor the executor to call the listener with
+     */
+    public final void subscribe(@NonNull Consumer<EntryUpdateEvent<T>> listener, @NonNull Executor executor) {
+        subscriptions.add(new EventSubscription<>(listener, executor));
+    }
+
+    /**
+     * Removes all subscriptions of a listener from this entry.
+     *
+     * @param listener the listener
+     */
+    public final void unsubscribe(@NonNull Consumer<EntryUpdateEvent<T>> listener) {
+        subscriptions.removeIf(subscription -> subscription.getListener() == listener);
+    }
+
+    private void set(T value) {
+        accessor.set(origin.getObject(), value);
     }
 
     @Override
@@ -171,7 +553,7 @@ public class Entry<T> implements StructurePart, Identifiable, Translatable, Desc
     @Override
     public final void apply(CommentedConfigurationNode node) {
         try {
-            T value = (T) node.get(getType());
+            T value = codec.read(node);
             if (value == null) {
                 throw new SerializationException(node, getType(), "Unable to deserialize value of this type");
             }
@@ -181,11 +563,36 @@ public class Entry<T> implements StructurePart, Identifiable, Translatable, Desc
         }
     }
 
+    /**
+     * Applies a cached value.
+     *
+     * @return whether the value was applied as is, i.e. it was not revised
+     */
+    final boolean applyCached(CommentedConfigurationNode node) throws SerializationException {
+        T value = codec.read(node);
+        if (value == null) {
+            throw new SerializationException(node, getType(), "Unable to deserialize value of this type");
+        }
+        setValue(value);
+        return value.equals(getLocalValue());
+    }
+
+    /**
+     * Writes the current value, including overlay values, to a node.
+     */
+    final void fetchEffective(CommentedConfigurationNode node) throws SerializationException {
+        codec.write(node, getValue());
+    }
+
     @Override
     public final void fetch(CommentedConfigurationNode node) {
+        // Overlay values must never end up in the config file
+        fetch(node, overlaid ? localValue : getValue());
+    }
+
+    private void fetch(CommentedConfigurationNode node, T value) {
         try {
-            // Need to box the type here as getValue returns the boxed value
-            node.set(ReflectionUtils.boxType(getType()), getValue());
+            codec.write(node, value);
             if (comment != null) {
                 node.comment(comment);
             }
@@ -199,11 +606,4 @@ public class Entry<T> implements StructurePart, Identifiable, Translatable, Desc
         return getField().toString();
     }
 
-    @FunctionalInterface
-    private interface Setter<T> {
-
-        void set(Object object, T value) throws IllegalAccessException, InvocationTargetException;
-
-    }
-
 }
\ No newline at end of file
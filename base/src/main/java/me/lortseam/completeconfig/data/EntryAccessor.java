@@ -0,0 +1,164 @@
+package me.lortseam.completeconfig.data;
+
+import com.google.common.primitives.Primitives;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import me.lortseam.completeconfig.util.ReflectionUtils;
+
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.function.BiConsumer;
+
+/**
+ * Reads and writes the value of an entry field. Setter methods are bound to a functional interface generated by
+ * {@link LambdaMetafactory} once, so calling them costs about as much as a direct call. Fields are accessed through
+ * {@link Field}, which on current JVMs is faster than a method handle that is not a constant; the JVM does not support
+ * generating functional interfaces for field access. Fields of a primitive type can additionally be read without boxing.
+ */
+@Slf4j(topic = "CompleteConfig")
+final class EntryAccessor {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    static EntryAccessor create(Field field) {
+        field.setAccessible(true);
+        ValueSetter setter = ReflectionUtils.getSetterMethod(field).map(EntryAccessor::createSetter).orElse(field::set);
+        return new EntryAccessor(field::get, setter, getPrimitiveType(field), getPrimitiveField(field));
+    }
+
+    /**
+     * Creates an accessor delegating to a generated one, which accesses the field directly. Since generated accessors
+     * always box the value, fields of a primitive type are still read through the field by the primitive getters.
+     */
+    static EntryAccessor create(Field field, GeneratedContainerDescriptor.Accessor accessor) {
+        Field primitiveField = getPrimitiveField(field);
+        if (primitiveField != null) {
+            try {
+                primitiveField.setAccessible(true);
+            } catch (RuntimeException e) {
+                logger.debug("Failed to access field " + field + ", values will be boxed", e);
+                primitiveField = null;
+            }
+        }
+        return new EntryAccessor(accessor::get, accessor::set, getPrimitiveType(field), primitiveField);
+    }
+
+    private static Class<?> getPrimitiveType(Field field) {
+        Class<?> primitiveType = Primitives.unwrap(field.getType());
+        return primitiveType.isPrimitive() ? primitiveType : null;
+    }
+
+    private static Field getPrimitiveField(Field field) {
+        return field.getType().isPrimitive() ? field : null;
+    }
+
+    private static ValueSetter createSetter(Method method) {
+        if (!Modifier.isStatic(method.getModifiers())) {
+            try {
+                MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(method.getDeclaringClass(), LOOKUP);
+                MethodType instantiatedType = MethodType.methodType(void.class, method.getDeclaringClass(), Primitives.wrap(method.getParameterTypes()[0]));
+                BiConsumer<Object, Object> setter = (BiConsumer<Object, Object>) LambdaMetafactory.metafactory(lookup, "accept",
+                        MethodType.methodType(BiConsumer.class), SETTER_TYPE, lookup.unreflect(method), instantiatedType).getTarget().invokeExact();
+                return setter::accept;
+            } catch (Throwable e) {
+                logger.warn("Failed to bind setter method " + method + ", falling back to reflection", e);
+            }
+        }
+        return method::invoke;
+    }
+
+    private final ValueGetter getter;
+    private final ValueSetter setter;
+    /**
+     * The primitive type of the field value, or {@code null} if the field neither has a primitive nor a wrapper type.
+     */
+    @Getter
+    private final Class<?> primitiveType;
+    /**
+     * The field, if it has a primitive type and can be read without boxing.
+     */
+    private final Field primitiveField;
+
+    private EntryAccessor(ValueGetter getter, ValueSetter setter, Class<?> primitiveType, Field primitiveField) {
+        this.getter = getter;
+        this.setter = setter;
+        this.primitiveType = primitiveType;
+        this.primitiveField = primitiveField;
+    }
+
+    Object get(Object object) {
+        try {
+            return getter.get(object);
+        } catch (Throwable e) {
+            throw new RuntimeException("Failed to get entry value", e);
+        }
+    }
+
+    int getInt(Object object) {
+        try {
+            return primitiveField != null ? primitiveField.getInt(object) : (Integer) getter.get(object);
+        } catch (Throwable e) {
+            throw new RuntimeException("Failed to get entry value", e);
+        }
+    }
+
+    long getLong(Object object) {
+        try {
+            return primitiveField != null ? primitiveField.getLong(object) : (Long) getter.get(object);
+        } catch (Throwable e) {
+            throw new RuntimeException("Failed to get entry value", e);
+        }
+    }
+
+    float getFloat(Object object) {
+        try {
+            return primitiveField != null ? primitiveField.getFloat(object) : (Float) getter.get(object);
+        } catch (Throwable e) {
+            throw new RuntimeException("Failed to get entry value", e);
+        }
+    }
+
+    double getDouble(Object object) {
+        try {
+            return primitiveField != null ? primitiveField.getDouble(object) : (Double) getter.get(object);
+        } catch (Throwable e) {
+            throw new RuntimeException("Failed to get entry value", e);
+        }
+    }
+
+    boolean getBoolean(Object object) {
+        try {
+            return primitiveField != null ? primitiveField.getBoolean(object) : (Boolean) getter.get(object);
+        } catch (Throwable e) {
+            throw new RuntimeException("Failed to get entry value", e);
+        }
+    }
+
+    void set(Object object, Object value) {
+        try {
+            setter.set(object, value);
+        } catch (Throwable e) {
+            throw new RuntimeException("Failed to set entry value", e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface ValueGetter {
+
+        Object get(Object object) throws Throwable;
+
+    }
+
+    @FunctionalInterface
+    private interface ValueSetter {
+
+        void set(Object object, Object value) throws Throwable;
+
+    }
+
+}
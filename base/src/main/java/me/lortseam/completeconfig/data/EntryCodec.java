@@ -0,0 +1,52 @@
+package me.lortseam.completeconfig.data;
+
+import me.lortseam.completeconfig.data.extension.DataExtension;
+import org.jetbrains.annotations.Nullable;
+import org.spongepowered.configurate.ConfigurationNode;
+import org.spongepowered.configurate.serialize.SerializationException;
+
+import java.lang.reflect.Type;
+
+/**
+ * Reads and writes entry values from and to config nodes. Every entry resolves its codec once, so values of common
+ * types can be read and written without looking up a type serializer each time.
+ *
+ * <p>Custom codecs can be registered with {@link DataExtension#getEntryCodecs()}. Types for which a type serializer
+ * was registered in the config options or by a data extension always use that serializer instead.
+ *
+ * @param <T> the value type
+ */
+public interface EntryCodec<T> {
+
+    /**
+     * Reads a value from a node.
+     *
+     * @param node the node
+     * @return the value, or {@code null} if the node does not contain a value of this codec's type
+     * @throws SerializationException if the value cannot be read
+     */
+    @Nullable T read(ConfigurationNode node) throws SerializationException;
+
+    /**
+     * Writes a value to a node.
+     *
+     * @param node the node
+     * @param value the value
+     * @throws SerializationException if the value cannot be written
+     */
+    void write(ConfigurationNode node, T value) throws SerializationException;
+
+    @FunctionalInterface
+    interface Factory {
+
+        /**
+         * Creates a codec for an entry type.
+         *
+         * @param type the entry type
+         * @return the codec, or {@code null} if the type is not supported
+         */
+        @Nullable EntryCodec<?> create(Type type);
+
+    }
+
+}
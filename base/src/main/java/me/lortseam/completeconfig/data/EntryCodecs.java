@@ -0,0 +1,207 @@
+package me.lortseam.completeconfig.data;
+
+import com.google.common.primitives.Primitives;
+import lombok.experimental.UtilityClass;
+import me.lortseam.completeconfig.util.ReflectionUtils;
+import org.jetbrains.annotations.Nullable;
+import org.spongepowered.configurate.ConfigurationNode;
+import org.spongepowered.configurate.serialize.SerializationException;
+
+import java.awt.Color;
+import java.lang.reflect.Array;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The built-in entry codecs. Direct codecs read values which are already stored in the native representation of their
+ * type and write values the same way the default type serializers do. Any other value is passed to the generic codec,
+ * so reading behaves exactly like deserializing with type serializers.
+ */
+@UtilityClass
+class EntryCodecs {
+
+    private static final Set<Class<?>> NATIVE_TYPES = Set.of(Boolean.class, Integer.class, Long.class, Float.class, Double.class, String.class);
+
+    /**
+     * Creates a codec which (de)serializes values with the type serializers of the node.
+     */
+    <T> EntryCodec<T> generic(Type type) {
+        // Need to box the type here as entries return boxed values
+        Type boxedType = ReflectionUtils.boxType(type);
+        return new EntryCodec<>() {
+
+            @Override
+            public T read(ConfigurationNode node) throws SerializationException {
+                return (T) node.get(type);
+            }
+
+            @Override
+            public void write(ConfigurationNode node, T value) throws SerializationException {
+                node.set(boxedType, value);
+            }
+
+        };
+    }
+
+    /**
+     * Creates a direct codec for primitives, strings, enums, colors and arrays of these primitives.
+     *
+     * @return the codec, or {@code null} if there is no direct codec for the type
+     */
+    @Nullable EntryCodec<?> direct(Type type, EntryCodec<?> generic) {
+        if (!(type instanceof Class<?> clazz)) return null;
+        Class<?> boxedClass = Primitives.wrap(clazz);
+        if (NATIVE_TYPES.contains(boxedClass)) {
+            return new NativeCodec(boxedClass, generic);
+        }
+        if (clazz.isEnum()) {
+            return new EnumCodec((Class<? extends Enum<?>>) clazz, generic);
+        }
+        if (clazz == Color.class) {
+            return new ColorCodec((EntryCodec<Color>) generic);
+        }
+        if (clazz.isArray() && clazz.getComponentType().isPrimitive() && NATIVE_TYPES.contains(Primitives.wrap(clazz.getComponentType()))) {
+            return new PrimitiveArrayCodec(clazz.getComponentType(), generic);
+        }
+        return null;
+    }
+
+    /**
+     * Converts a raw value to a native type if that is possible without loss.
+     *
+     * @return the converted value, or {@code null} if the value needs to be deserialized
+     */
+    private Object toNative(Class<?> type, Object value) {
+        if (type.isInstance(value)) {
+            return value;
+        }
+        if (type == Long.class && value instanceof Integer) {
+            return ((Integer) value).longValue();
+        }
+        if (type == Double.class && (value instanceof Integer || value instanceof Float)) {
+            return ((Number) value).doubleValue();
+        }
+        if (type == Float.class && value instanceof Double && ((Double) value).floatValue() == (Double) value) {
+            return ((Double) value).floatValue();
+        }
+        return null;
+    }
+
+    private static final class NativeCodec implements EntryCodec<Object> {
+
+        private final Class<?> type;
+        private final EntryCodec<Object> generic;
+
+        private NativeCodec(Class<?> type, EntryCodec<?> generic) {
+            this.type = type;
+            this.generic = (EntryCodec<Object>) generic;
+        }
+
+        @Override
+        public Object read(ConfigurationNode node) throws SerializationException {
+            Object value = toNative(type, node.raw());
+            return value != null ? value : generic.read(node);
+        }
+
+        @Override
+        public void write(ConfigurationNode node, Object value) {
+            node.raw(value);
+        }
+
+    }
+
+    private static final class EnumCodec implements EntryCodec<Enum<?>> {
+
+        private final Map<String, Enum<?>> constants = new HashMap<>();
+        private final EntryCodec<Enum<?>> generic;
+
+        private EnumCodec(Class<? extends Enum<?>> type, EntryCodec<?> generic) {
+            for (Enum<?> constant : type.getEnumConstants()) {
+                constants.put(constant.name(), constant);
+            }
+            this.generic = (EntryCodec<Enum<?>>) generic;
+        }
+
+        @Override
+        public Enum<?> read(ConfigurationNode node) throws SerializationException {
+            Enum<?> value = node.raw() instanceof String name ? constants.get(name) : null;
+            // Names which do not match exactly, e.g. in different case, are still accepted by the serializer
+            return value != null ? value : generic.read(node);
+        }
+
+        @Override
+        public void write(ConfigurationNode node, Enum<?> value) {
+            node.raw(value.name());
+        }
+
+    }
+
+    private static final class ColorCodec implements EntryCodec<Color> {
+
+        private final EntryCodec<Color> generic;
+
+        private ColorCodec(EntryCodec<Color> generic) {
+            this.generic = generic;
+        }
+
+        @Override
+        public Color read(ConfigurationNode node) throws SerializationException {
+            if (node.raw() instanceof Integer rgb) {
+                // Integer value always contains alpha value
+                return new Color(rgb, true);
+            }
+            return generic.read(node);
+        }
+
+        @Override
+        public void write(ConfigurationNode node, Color value) {
+            node.raw(value.getRGB());
+        }
+
+    }
+
+    private static final class PrimitiveArrayCodec implements EntryCodec<Object> {
+
+        private final Class<?> componentType;
+        private final Class<?> boxedComponentType;
+        private final EntryCodec<Object> generic;
+
+        private PrimitiveArrayCodec(Class<?> componentType, EntryCodec<?> generic) {
+            this.componentType = componentType;
+            boxedComponentType = Primitives.wrap(componentType);
+            this.generic = (EntryCodec<Object>) generic;
+        }
+
+        @Override
+        public Object read(ConfigurationNode node) throws SerializationException {
+            if (!(node.raw() instanceof List<?> elements)) {
+                return generic.read(node);
+            }
+            Object array = Array.newInstance(componentType, elements.size());
+            for (int i = 0; i < elements.size(); i++) {
+                Object element = elements.get(i) != null ? toNative(boxedComponentType, elements.get(i)) : null;
+                if (element == null) {
+                    return generic.read(node);
+                }
+                Array.set(array, i, element);
+            }
+            return array;
+        }
+
+        @Override
+        public void write(ConfigurationNode node, Object value) {
+            int length = Array.getLength(value);
+            List<Object> elements = new ArrayList<>(length);
+            for (int i = 0; i < length; i++) {
+                elements.add(Array.get(value, i));
+            }
+            node.raw(elements);
+        }
+
+    }
+
+}
@@ -0,0 +1,56 @@
+package me.lortseam.completeconfig.data;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import me.lortseam.completeconfig.util.ReflectionUtils;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Type;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The reflective metadata of an entry field. It is resolved once per field and shared by all instances of the
+ * declaring class.
+ *
+ * @see ContainerDescriptor
+ */
+@Getter(AccessLevel.PACKAGE)
+final class EntryField {
+
+    private final Field field;
+    private final boolean isStatic;
+    private final Type type;
+    private final Class<?> typeClass;
+    private final Type[] genericTypes;
+    @Getter(AccessLevel.NONE)
+    private final Map<Class<? extends Annotation>, Annotation> annotations = new HashMap<>();
+    private final Set<Class<? extends Annotation>> annotationTypes;
+    private final EntryAccessor accessor;
+
+    EntryField(Field field) {
+        this(field, null);
+    }
+
+    EntryField(Field field, @Nullable GeneratedContainerDescriptor.Accessor generatedAccessor) {
+        this.field = field;
+        isStatic = Modifier.isStatic(field.getModifiers());
+        type = ReflectionUtils.getFieldType(field);
+        typeClass = ReflectionUtils.getTypeClass(type);
+        genericTypes = ReflectionUtils.getFieldGenericTypes(field);
+        for (Annotation annotation : field.getDeclaredAnnotations()) {
+            annotations.put(annotation.annotationType(), annotation);
+        }
+        annotationTypes = Set.copyOf(annotations.keySet());
+        accessor = generatedAccessor != null ? EntryAccessor.create(field, generatedAccessor) : EntryAccessor.create(field);
+    }
+
+    <A extends Annotation> A getAnnotation(Class<A> annotationType) {
+        return (A) annotations.get(annotationType);
+    }
+
+}
@@ -6,13 +6,12 @@ import lombok.Getter;
 import me.lortseam.completeconfig.api.ConfigContainer;
 import me.lortseam.completeconfig.api.ConfigEntries;
 import me.lortseam.completeconfig.api.ConfigEntry;
-import me.lortseam.completeconfig.util.ReflectionUtils;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
-import java.lang.reflect.Modifier;
 import java.lang.reflect.Type;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * The origin of a config entry.
@@ -38,20 +37,34 @@ public final class EntryOrigin {
     private final Type[] genericTypes;
     @Getter
     private final ConfigContainer container;
+    private final EntryField entryField;
 
-    EntryOrigin(Config root, Parent parent, Field field, ConfigContainer container) {
+    EntryOrigin(Config root, Parent parent, EntryField entryField, ConfigContainer container) {
         this.root = root;
         this.parent = parent;
-        this.field = field;
+        this.entryField = entryField;
         this.container = container;
+        field = entryField.getField();
         declaringClass = (Class<? extends ConfigContainer>) field.getDeclaringClass();
-        object = Modifier.isStatic(field.getModifiers()) ? null : container;
-        type = ReflectionUtils.getFieldType(field);
-        genericTypes = ReflectionUtils.getFieldGenericTypes(field);
+        object = entryField.isStatic() ? null : container;
+        type = entryField.getType();
+        genericTypes = entryField.getGenericTypes();
+    }
+
+    EntryOrigin(Config root, Parent parent, Field field, ConfigContainer container) {
+        this(root, parent, ContainerDescriptor.of(field.getDeclaringClass()).getEntryField(field), container);
+    }
+
+    Class<?> getTypeClass() {
+        return entryField.getTypeClass();
+    }
+
+    EntryAccessor getAccessor() {
+        return entryField.getAccessor();
     }
 
     public <A extends Annotation> A getAnnotation(Class<A> annotationType) {
-        A annotation = field.getDeclaredAnnotation(annotationType);
+        A annotation = entryField.getAnnotation(annotationType);
         if (annotation == null) {
             throw new RuntimeException("Missing required transformation annotation: " + annotationType);
         }
@@ -59,11 +72,20 @@ public final class EntryOrigin {
     }
 
     public boolean isAnnotationPresent(Class<? extends Annotation> annotationType) {
-        return field.isAnnotationPresent(annotationType);
+        return entryField.getAnnotation(annotationType) != null;
+    }
+
+    /**
+     * Returns the types of all annotations declared on the field.
+     *
+     * @return an immutable set of annotation types
+     */
+    public Set<Class<? extends Annotation>> getDeclaredAnnotationTypes() {
+        return entryField.getAnnotationTypes();
     }
 
     public <A extends Annotation> Optional<A> getOptionalAnnotation(Class<A> annotationType) {
-        return Optional.ofNullable(field.getDeclaredAnnotation(annotationType));
+        return Optional.ofNullable(entryField.getAnnotation(annotationType));
     }
 
     public Optional<ConfigEntry> getMainAnnotation() {
@@ -71,7 +93,7 @@ public final class EntryOrigin {
     }
 
     public Optional<ConfigEntries> getClassAnnotation() {
-        return Optional.ofNullable(declaringClass.getDeclaredAnnotation(ConfigEntries.class));
+        return Optional.ofNullable(ContainerDescriptor.of(declaringClass).getClassAnnotation());
     }
 
 }
@@ -0,0 +1,34 @@
+package me.lortseam.completeconfig.data;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * Describes an update of an entry value.
+ *
+ * @param <T> the value type
+ *
+ * @see Entry#subscribe(java.util.function.Consumer)
+ * @see Config#subscribe(java.util.function.Consumer)
+ */
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+@Getter
+@ToString
+public final class EntryUpdateEvent<T> {
+
+    /**
+     * The updated entry.
+     */
+    private final Entry<T> entry;
+    /**
+     * The value before the update. If the update was part of a batch, this is the value before the batch was started.
+     */
+    private final T oldValue;
+    /**
+     * The value after the update.
+     */
+    private final T newValue;
+
+}
@@ -0,0 +1,25 @@
+package me.lortseam.completeconfig.data;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+final class EventSubscription<E> {
+
+    @Getter(AccessLevel.PACKAGE)
+    private final Consumer<E> listener;
+    private final Executor executor;
+
+    void dispatch(E event) {
+        if (executor == null) {
+            listener.accept(event);
+        } else {
+            executor.execute(() -> listener.accept(event));
+        }
+    }
+
+}
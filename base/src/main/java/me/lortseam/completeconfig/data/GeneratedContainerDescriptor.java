@@ -0,0 +1,57 @@
+package me.lortseam.completeconfig.data;
+
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Resolution metadata of a container class, generated at compile time by the CompleteConfig annotation processor. If a
+ * generated descriptor is present for a container class, its fields are not scanned reflectively.
+ *
+ * <p>This interface is only meant to be implemented by generated code.
+ */
+public interface GeneratedContainerDescriptor {
+
+    /**
+     * The suffix appended to the name of a container class to form the name of its generated descriptor. For nested
+     * classes, the names of the enclosing classes are prepended, separated by underscores.
+     */
+    String CLASS_NAME_SUFFIX = "_ConfigDescriptor";
+
+    /**
+     * Returns the names of all entry fields in declaration order.
+     *
+     * @return the entry field names
+     */
+    String[] getEntryFields();
+
+    /**
+     * Returns the names of all transitive fields in declaration order.
+     *
+     * @return the transitive field names
+     */
+    String[] getTransitiveFields();
+
+    /**
+     * Returns all transitive nested classes in declaration order.
+     *
+     * @return the transitive nested classes
+     */
+    Class<?>[] getTransitiveClasses();
+
+    /**
+     * Returns a direct accessor for an entry field.
+     *
+     * @param field the field name
+     * @return the accessor, or {@code null} if the field cannot be accessed directly
+     */
+    @Nullable
+    Accessor getAccessor(String field);
+
+    interface Accessor {
+
+        Object get(Object object);
+
+        void set(Object object, Object value);
+
+    }
+
+}
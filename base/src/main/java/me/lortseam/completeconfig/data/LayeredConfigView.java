@@ -0,0 +1,191 @@
+package me.lortseam.completeconfig.data;
+
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Resolves the effective entry values of a config from a stack of layers. Values of higher layers override values of
+ * lower layers, and the config file values (which in turn override the default values) form the bottom of the stack.
+ * For example, a view with a world and a player layer resolves values in the order defaults &lt; file &lt; world &lt;
+ * player.
+ *
+ * <p>The resolved values of overridden entries are cached, and only invalidated for an entry when one of the layers
+ * changes that entry. Entries which are not overridden are not cached, so memory grows with the number of overrides
+ * rather than with the number of entries. Many views may share the same layers, e.g. one view per player sharing the
+ * world layer, without copying any values.
+ *
+ * <p>A view can be {@linkplain #bind() bound} to apply its resolved values to the entries themselves. Bound values are
+ * applied as overlays, so they are never written to the config file. Since entries only have one overlay, binding a
+ * view fails if any of its overridden entries already has an overlay, e.g. from another bound view or a server. Overlays
+ * applied by others after the view was bound are left untouched.
+ *
+ * <p>A view listens to changes of its layers and must be {@linkplain #close() closed} once it is no longer used.
+ */
+@Slf4j(topic = "CompleteConfig")
+public final class LayeredConfigView implements AutoCloseable {
+
+    private final Config config;
+    private final List<ConfigLayer> layers;
+    private final Map<Entry<?>, Object> resolvedOverrides = new ConcurrentHashMap<>();
+    private final Consumer<Entry<?>> listener = this::invalidate;
+    private volatile boolean bound;
+
+    /**
+     * Creates a view of a config.
+     *
+     * @param config the config
+     * @param layers the layers, from lowest to highest priority
+     */
+    public LayeredConfigView(@NonNull Config config, @NonNull List<ConfigLayer> layers) {
+        this.config = config;
+        this.layers = List.copyOf(layers);
+        for (ConfigLayer layer : this.layers) {
+            layer.addListener(listener);
+        }
+    }
+
+    /**
+     * Creates a view of a config.
+     *
+     * @param config the config
+     * @param layers the layers, from lowest to highest priority
+     */
+    public LayeredConfigView(@NonNull Config config, @NonNull ConfigLayer... layers) {
+        this(config, Arrays.asList(layers));
+    }
+
+    /**
+     * Gets the effective value of an entry.
+     *
+     * @param entry the entry
+     * @return the value of the highest layer overriding the entry, or the config file value if no layer overrides it
+     */
+    public <T> T get(@NonNull Entry<T> entry) {
+        Object override = resolveOverride(entry);
+        return override != null ? (T) override : entry.getLocalValue();
+    }
+
+    /**
+     * Returns the layer which provides the effective value of an entry.
+     *
+     * @param entry the entry
+     * @return the layer, or an empty optional if the config file value is effective
+     */
+    public Optional<ConfigLayer> getProvidingLayer(@NonNull Entry<?> entry) {
+        for (int i = layers.size() - 1; i >= 0; i--) {
+            if (layers.get(i).contains(entry)) {
+                return Optional.of(layers.get(i));
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Resolves the value of the highest layer overriding an entry.
+     *
+     * @return the value, or {@code null} if no layer overrides the entry
+     */
+    private Object resolveOverride(Entry<?> entry) {
+        Object override = resolvedOverrides.get(entry);
+        if (override != null) {
+            return override;
+        }
+        if (!isOverridden(entry)) {
+            return null;
+        }
+        // No value is cached if the entry is no longer overridden when computed
+        return resolvedOverrides.computeIfAbsent(entry, this::findOverride);
+    }
+
+    private boolean isOverridden(Entry<?> entry) {
+        for (ConfigLayer layer : layers) {
+            if (layer.contains(entry)) return true;
+        }
+        return false;
+    }
+
+    private Object findOverride(Entry<?> entry) {
+        for (int i = layers.size() - 1; i >= 0; i--) {
+            Optional<?> value = layers.get(i).get(entry);
+            if (value.isPresent()) {
+                return value.get();
+            }
+        }
+        return null;
+    }
+
+    private void invalidate(Entry<?> entry) {
+        // Recomputed under the lock of the map, so a resolution which started before the layer changed cannot cache
+        // its outdated result afterwards. The mapping is removed if the entry is no longer overridden.
+        resolvedOverrides.compute(entry, (key, override) -> findOverride(key));
+        if (bound && entry.origin.getRoot() == config) {
+            apply(entry);
+        }
+    }
+
+    /**
+     * Applies the effective values of this view to the entries of the config, so they are visible through the entry
+     * fields. Afterwards, changes of the layers are applied as well until the view is unbound.
+     *
+     * @throws IllegalStateException if an overridden entry already has an overlay, e.g. because it is synchronized
+     * from a server or another view is bound
+     */
+    public void bind() {
+        if (bound) return;
+        Set<Entry<?>> entries = getOverriddenEntries();
+        for (Entry<?> entry : entries) {
+            if (entry.isOverlaid()) {
+                throw new IllegalStateException("Cannot bind view to " + entry + " since it already has an overlay");
+            }
+        }
+        bound = true;
+        config.batch(() -> entries.forEach(this::apply));
+    }
+
+    /**
+     * Removes the values applied by this view and restores the config file values.
+     */
+    public void unbind() {
+        if (!bound) return;
+        bound = false;
+        config.batch(() -> getOverriddenEntries().forEach(entry -> entry.removeOverlay(this)));
+    }
+
+    private Set<Entry<?>> getOverriddenEntries() {
+        Set<Entry<?>> entries = new LinkedHashSet<>();
+        for (ConfigLayer layer : layers) {
+            for (Entry<?> entry : layer.getOverrides().keySet()) {
+                if (entry.origin.getRoot() == config) {
+                    entries.add(entry);
+                }
+            }
+        }
+        return entries;
+    }
+
+    private <T> void apply(Entry<T> entry) {
+        Object override = resolveOverride(entry);
+        if (override == null) {
+            entry.removeOverlay(this);
+        } else if (!entry.applyOverlay(this, (T) override)) {
+            // The overlay was applied after this view was bound, e.g. by a server, and takes precedence
+            logger.debug("Layered value is not applied to entry " + entry + " since it has an overlay of another owner");
+        }
+    }
+
+    /**
+     * Unbinds this view and stops listening to changes of its layers.
+     */
+    @Override
+    public void close() {
+        unbind();
+        for (ConfigLayer layer : layers) {
+            layer.removeListener(listener);
+        }
+    }
+
+}
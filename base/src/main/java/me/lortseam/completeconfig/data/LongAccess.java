@@ -0,0 +1,41 @@
+package me.lortseam.completeconfig.data;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Reads and writes the value of an entry of type {@code long} or {@link Long} without boxing it. The type of the
+ * entry is checked once when the access is created.
+ *
+ * @see Entry#asLong()
+ */
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+public final class LongAccess {
+
+    @Getter
+    private final Entry<Long> entry;
+
+    /**
+     * Returns the value of the entry.
+     *
+     * @return the current value
+     *
+     * @see Entry#getValue()
+     */
+    public long get() {
+        return entry.getLong();
+    }
+
+    /**
+     * Sets the value of the entry. The value is only boxed if it differs from the current value.
+     *
+     * @param value the new value
+     *
+     * @see Entry#setValue(Object)
+     */
+    public void set(long value) {
+        entry.setLong(value);
+    }
+
+}
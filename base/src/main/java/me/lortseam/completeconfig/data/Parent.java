@@ -12,13 +12,12 @@ import me.lortseam.completeconfig.text.TranslationKey;
 import me.lortseam.completeconfig.util.ReflectionUtils;
 import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
-import org.apache.commons.lang3.ArrayUtils;
 import org.jetbrains.annotations.Nullable;
 import org.spongepowered.configurate.CommentedConfigurationNode;
 
+import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Modifier;
-import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.function.BiConsumer;
@@ -46,55 +45,42 @@ public abstract class Parent implements StructurePart, Translatable {
 
     abstract Config getRoot();
 
+    /**
+     * Called before the children of this parent are accessed from outside.
+     */
+    void ensureLoaded() {}
+
     public final Collection<Entry> getEntries() {
+        ensureLoaded();
         return Collections.unmodifiableCollection(entries);
     }
 
     public final Collection<Cluster> getClusters() {
+        ensureLoaded();
         return Collections.unmodifiableCollection(clusters);
     }
 
     final void resolveContainer(ConfigContainer container) {
         entries.resolve(container);
         for (Class<? extends ConfigContainer> clazz : container.getConfigClasses()) {
-            Arrays.stream(clazz.getDeclaredFields()).filter(field -> {
-                if (field.isAnnotationPresent(ConfigContainer.Transitive.class)) {
-                    if (!ConfigContainer.class.isAssignableFrom(field.getType())) {
-                        throw new RuntimeException("Transitive field " + field + " must implement " + ConfigContainer.class.getSimpleName());
-                    }
-                    return !Modifier.isStatic(field.getModifiers()) || clazz == container.getClass();
-                }
-                return false;
-            }).map(field -> {
-                if (!field.canAccess(container)) {
-                    field.setAccessible(true);
-                }
+            var descriptor = ContainerDescriptor.of(clazz);
+            for (Field field : descriptor.getTransitiveFields()) {
+                if (clazz != container.getClass() && Modifier.isStatic(field.getModifiers())) continue;
                 try {
-                    return (ConfigContainer) field.get(container);
+                    resolve((ConfigContainer) field.get(container));
                 } catch (IllegalAccessException e) {
                     throw new RuntimeException(e);
                 }
-            }).forEach(this::resolve);
-            Class<?>[] nestedClasses = clazz.getDeclaredClasses();
-            ArrayUtils.reverse(nestedClasses);
-            Arrays.stream(nestedClasses).filter(nestedClass -> {
-                if (nestedClass.isAnnotationPresent(ConfigContainer.Transitive.class)) {
-                    if (!ConfigContainer.class.isAssignableFrom(nestedClass)) {
-                        throw new RuntimeException("Transitive " + nestedClass + " must implement " + ConfigContainer.class.getSimpleName());
-                    }
-                    if (!Modifier.isStatic(nestedClass.getModifiers())) {
-                        throw new RuntimeException("Transitive " + nestedClass + " must be static");
-                    }
-                    return true;
-                }
-                return false;
-            }).map(nestedClass -> {
+            }
+            for (Class<? extends ConfigContainer> nestedClass : descriptor.getTransitiveClasses()) {
+                ConfigContainer nestedContainer;
                 try {
-                    return (ConfigContainer) ReflectionUtils.instantiateClass(nestedClass);
+                    nestedContainer = ReflectionUtils.instantiateClass(nestedClass);
                 } catch (NoSuchMethodException | IllegalAccessException | InstantiationException | InvocationTargetException e) {
                     throw new RuntimeException("Failed to instantiate nested " + nestedClass, e);
                 }
-            }).forEach(this::resolve);
+                resolve(nestedContainer);
+            }
         }
         var transitives = container.getTransitives();
         if (transitives != null) {
@@ -124,6 +110,55 @@ public abstract class Parent implements StructurePart, Translatable {
         propagateToChildren(clusters, node, StructurePart::fetch);
     }
 
+    /**
+     * Fetches the values of all entries of this parent and its children which changed since the config was last saved.
+     *
+     * @see #isDirty()
+     */
+    final void fetchChanges(CommentedConfigurationNode node) {
+        for (Entry<?> entry : entries) {
+            entry.fetchIfDirty(node.node(entry.getId()));
+        }
+        for (Cluster cluster : clusters) {
+            cluster.fetchChanges(node.node(cluster.getId()));
+        }
+    }
+
+    final void markSaved() {
+        entries.forEach(Entry::markSaved);
+        clusters.forEach(Parent::markSaved);
+    }
+
+    /**
+     * Returns whether any entry of this parent or its children changed since the config was last saved.
+     *
+     * @return {@code true} if any entry may have changed since the last save
+     *
+     * @see Entry#isDirty()
+     */
+    public final boolean isDirty() {
+        for (Entry<?> entry : entries) {
+            if (entry.isDirty()) return true;
+        }
+        for (Cluster cluster : clusters) {
+            if (cluster.isDirty()) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Revises the current values of all entries of this parent and its children, e.g. to catch values which were
+     * modified outside of {@link Entry#setValue(Object)}. Listeners are notified for every entry whose value changed.
+     */
+    public final void validate() {
+        for (Entry<?> entry : entries) {
+            entry.update();
+        }
+        for (Cluster cluster : clusters) {
+            cluster.validate();
+        }
+    }
+
     final boolean isEmpty() {
         return entries.isEmpty() && clusters.isEmpty();
     }
@@ -0,0 +1,21 @@
+package me.lortseam.completeconfig.data;
+
+/**
+ * A connection from a server to one of its clients. Implementations transport payloads over the actual network, for
+ * example as custom packets.
+ *
+ * @see ConfigSyncServer
+ * @see ConfigSyncClient
+ */
+@FunctionalInterface
+public interface SyncConnection {
+
+    /**
+     * Sends a payload to the client. Payloads must be passed to {@link ConfigSyncClient#receive(byte[])} unchanged and
+     * in the order they were sent.
+     *
+     * @param payload the payload
+     */
+    void send(byte[] payload);
+
+}
@@ -0,0 +1,28 @@
+package me.lortseam.completeconfig.data;
+
+/**
+ * Determines how durably a config file is written. Config files are always written to a temporary file first, which
+ * then atomically replaces the actual file, so a crash never leaves a truncated file behind. The sync policy decides
+ * whether the written data is additionally flushed to the storage device before the write is considered complete.
+ *
+ * @see ConfigOptions.Builder#syncPolicy(SyncPolicy)
+ */
+public enum SyncPolicy {
+
+    /**
+     * Does not flush written data. A crash shortly after saving may lose the latest changes, but never corrupts the
+     * file.
+     */
+    NONE,
+    /**
+     * Flushes the temporary file before it replaces the config file.
+     */
+    FILE,
+    /**
+     * Flushes the temporary file before it replaces the config file, and flushes the containing directory afterwards
+     * so the replacement itself is durable. Flushing directories is not supported on every platform; it is skipped
+     * where it fails.
+     */
+    FILE_AND_DIRECTORY
+
+}
@@ -0,0 +1,59 @@
+package me.lortseam.completeconfig.data;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32C;
+
+/**
+ * The synced entries of a config. Entries are identified by their index in traversal order, so servers and clients
+ * with the same config structure assign the same IDs. The fingerprint detects structure mismatches, e.g. if the server
+ * runs a different version of the mod.
+ */
+final class SyncedEntries {
+
+    static final byte SNAPSHOT = 0;
+    static final byte DELTA = 1;
+
+    @Getter(AccessLevel.PACKAGE)
+    private final Config config;
+    @Getter(AccessLevel.PACKAGE)
+    private final List<Entry<?>> entries;
+    private final Map<Entry<?>, Integer> ids = new HashMap<>();
+    @Getter(AccessLevel.PACKAGE)
+    private final long fingerprint;
+
+    SyncedEntries(Config config) {
+        this.config = config;
+        List<Entry<?>> allEntries = new ArrayList<>();
+        ConfigCache.collectEntries(config, allEntries);
+        List<Entry<?>> entries = new ArrayList<>();
+        StringBuilder structure = new StringBuilder();
+        for (Entry<?> entry : allEntries) {
+            if (!entry.isSynced()) continue;
+            ids.put(entry, entries.size());
+            entries.add(entry);
+            structure.append(entry.getId()).append('\0').append(entry.getType().getTypeName()).append('\0');
+        }
+        this.entries = Collections.unmodifiableList(entries);
+        CRC32C checksum = new CRC32C();
+        checksum.update(structure.toString().getBytes(StandardCharsets.UTF_8));
+        fingerprint = checksum.getValue();
+    }
+
+    /**
+     * Gets the ID of an entry.
+     *
+     * @return the ID, or {@code -1} if the entry is not synced
+     */
+    int getId(Entry<?> entry) {
+        return ids.getOrDefault(entry, -1);
+    }
+
+}
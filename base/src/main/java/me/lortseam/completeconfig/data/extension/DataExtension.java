@@ -1,5 +1,6 @@
 package me.lortseam.completeconfig.data.extension;
 
+import me.lortseam.completeconfig.data.EntryCodec;
 import me.lortseam.completeconfig.data.transform.Transformation;
 import me.lortseam.completeconfig.Extension;
 import org.spongepowered.configurate.serialize.TypeSerializerCollection;
@@ -29,4 +30,13 @@ public interface DataExtension extends Extension {
         return null;
     }
 
+    /**
+     * Used to register codecs which read and write entry values of specific types directly.
+     *
+     * @return a collection of entry codec factories
+     */
+    default Collection<EntryCodec.Factory> getEntryCodecs() {
+        return null;
+    }
+
 }
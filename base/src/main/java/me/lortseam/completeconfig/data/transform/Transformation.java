@@ -14,8 +14,9 @@ import java.lang.reflect.Type;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Predicate;
-import java.util.stream.Collectors;
 
 /**
  * A transformation is used to transform a field to an {@link me.lortseam.completeconfig.data.Entry}. This class stores
@@ -24,7 +25,9 @@ import java.util.stream.Collectors;
  */
 public final class Transformation {
 
-    private static final Set<Class<? extends Annotation>> registeredAnnotations = new HashSet<>();
+    // Filters may be created concurrently while configs are resolved in parallel
+    private static final Set<Class<? extends Annotation>> registeredAnnotations = ConcurrentHashMap.newKeySet();
+    private static final AtomicInteger registeredAnnotationsVersion = new AtomicInteger();
 
     public static final Transformation[] DEFAULTS = new Transformation[] {
             new Transformation(filter().byType(boolean.class, Boolean.class).byAnnotation(ConfigEntry.Boolean.class, true), BooleanEntry::new),
@@ -75,6 +78,16 @@ public final class Transformation {
         return new Filter();
     }
 
+    /**
+     * Returns a counter which changes whenever a filter registers a new annotation type. Since filters reject fields
+     * declaring registered annotations they do not expect, the result of a filter may change with this counter.
+     *
+     * @return the current version of the registered annotation types
+     */
+    public static int getRegisteredAnnotationsVersion() {
+        return registeredAnnotationsVersion.get();
+    }
+
     /**
      * Creates a transformation. Use {@link Transformation#filter()} to construct the {@code filter}.
      *
@@ -138,7 +151,9 @@ public final class Transformation {
          * @return this builder
          */
         public Filter byAnnotation(Class<? extends Annotation> annotation, boolean optional) {
-            registeredAnnotations.add(annotation);
+            if (registeredAnnotations.add(annotation)) {
+                registeredAnnotationsVersion.incrementAndGet();
+            }
             (optional ? optionalAnnotations : requiredAnnotations).add(annotation);
             return this;
         }
@@ -170,11 +185,14 @@ public final class Transformation {
 
         private Predicate<EntryOrigin> build() {
             by(origin -> {
-                Set<Class<? extends Annotation>> declaredAnnotations = Arrays.stream(origin.getField().getDeclaredAnnotations()).map(Annotation::annotationType).filter(registeredAnnotations::contains).collect(Collectors.toSet());
+                Set<Class<? extends Annotation>> declaredAnnotations = origin.getDeclaredAnnotationTypes();
                 for (Class<? extends Annotation> requiredAnnotation : requiredAnnotations) {
-                    if (!declaredAnnotations.remove(requiredAnnotation)) return false;
+                    if (!declaredAnnotations.contains(requiredAnnotation)) return false;
+                }
+                for (Class<? extends Annotation> declaredAnnotation : declaredAnnotations) {
+                    if (registeredAnnotations.contains(declaredAnnotation) && !requiredAnnotations.contains(declaredAnnotation) && !optionalAnnotations.contains(declaredAnnotation)) return false;
                 }
-                return optionalAnnotations.containsAll(declaredAnnotations);
+                return true;
             });
             return predicate;
         }
@@ -3,16 +3,53 @@ package me.lortseam.completeconfig.util;
 import lombok.experimental.UtilityClass;
 
 import java.math.BigDecimal;
+import java.util.Comparator;
 
 @UtilityClass
 public final class NumberUtils {
 
+    private static final Comparator<Number> INTEGRAL_COMPARATOR = (first, second) -> Long.compare(first.longValue(), second.longValue());
+    private static final Comparator<Number> FLOATING_POINT_COMPARATOR = (first, second) -> compareFinite(first.doubleValue(), second.doubleValue());
+
     public static int compare(Number first, Number second) {
         return new BigDecimal(first.toString()).compareTo(new BigDecimal(second.toString()));
     }
 
+    /**
+     * Returns a comparator for numbers of the specified type. Comparators for the primitive wrapper types compare the
+     * primitive values directly, all other types are compared by {@link #compare(Number, Number)}.
+     *
+     * <p>Like {@link #compare(Number, Number)}, the floating point comparators treat {@code -0.0} and {@code 0.0} as
+     * equal and throw a {@link NumberFormatException} for NaN and infinite values.
+     *
+     * @param type the number type
+     * @return a comparator for numbers of that type
+     */
+    public static <T extends Number> Comparator<T> comparator(Class<?> type) {
+        if (type == Integer.class || type == Long.class || type == Short.class || type == Byte.class) {
+            return (Comparator<T>) INTEGRAL_COMPARATOR;
+        }
+        if (type == Float.class || type == Double.class) {
+            return (Comparator<T>) FLOATING_POINT_COMPARATOR;
+        }
+        return NumberUtils::compare;
+    }
+
     public static boolean isPositive(Number number) {
+        if (number instanceof Integer || number instanceof Long || number instanceof Short || number instanceof Byte) {
+            return number.longValue() > 0;
+        }
+        if (number instanceof Float || number instanceof Double) {
+            return compareFinite(number.doubleValue(), 0) > 0;
+        }
         return compare(number, 0) > 0;
     }
 
+    private static int compareFinite(double first, double second) {
+        if (!Double.isFinite(first) || !Double.isFinite(second)) {
+            throw new NumberFormatException("Cannot compare non-finite values " + first + " and " + second);
+        }
+        return first < second ? -1 : (first > second ? 1 : 0);
+    }
+
 }
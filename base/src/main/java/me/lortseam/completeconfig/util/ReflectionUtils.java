@@ -36,6 +36,22 @@ public final class ReflectionUtils {
     }
 
     public static Optional<Method> getSetterMethod(Field field, Object object) {
+        return findSetterMethod(field).map(method -> {
+            if (!method.canAccess(object)) {
+                method.setAccessible(true);
+            }
+            return method;
+        });
+    }
+
+    public static Optional<Method> getSetterMethod(Field field) {
+        return findSetterMethod(field).map(method -> {
+            method.setAccessible(true);
+            return method;
+        });
+    }
+
+    private static Optional<Method> findSetterMethod(Field field) {
         Method method;
         try {
             method = field.getDeclaringClass().getDeclaredMethod("set" + StringUtils.capitalize(field.getName()), getTypeClass(getFieldType(field)));
@@ -45,9 +61,6 @@ public final class ReflectionUtils {
         if (Modifier.isStatic(field.getModifiers()) != Modifier.isStatic(method.getModifiers()) || !method.getReturnType().equals(Void.TYPE)) {
             return Optional.empty();
         }
-        if (!method.canAccess(object)) {
-            method.setAccessible(true);
-        }
         return Optional.of(method);
     }
 
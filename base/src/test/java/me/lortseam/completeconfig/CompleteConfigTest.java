@@ -0,0 +1,38 @@
+package me.lortseam.completeconfig;
+
+import me.lortseam.completeconfig.data.extension.DataExtension;
+import org.junit.jupiter.api.Test;
+import org.spongepowered.configurate.serialize.TypeSerializerCollection;
+
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CompleteConfigTest {
+
+    @Test
+    public void collectExtensions_cacheUntilExtensionRegistered() {
+        Function<DataExtension, TypeSerializerCollection> function = DataExtension::getTypeSerializers;
+        var results = CompleteConfig.collectExtensions(DataExtension.class, function);
+        var extensions = CompleteConfig.getExtensions(DataExtension.class);
+        assertSame(results, CompleteConfig.collectExtensions(DataExtension.class, function));
+        assertSame(extensions, CompleteConfig.getExtensions(DataExtension.class));
+
+        int version = CompleteConfig.getExtensionsVersion();
+        var typeSerializers = TypeSerializerCollection.builder().build();
+        var extension = new DataExtension() {
+            @Override
+            public TypeSerializerCollection getTypeSerializers() {
+                return typeSerializers;
+            }
+        };
+        CompleteConfig.registerExtension(extension);
+        assertNotEquals(version, CompleteConfig.getExtensionsVersion());
+        assertTrue(CompleteConfig.getExtensions(DataExtension.class).contains(extension));
+        var newResults = CompleteConfig.collectExtensions(DataExtension.class, function);
+        assertNotSame(results, newResults);
+        assertTrue(newResults.contains(typeSerializers));
+        assertThrows(UnsupportedOperationException.class, newResults::clear);
+    }
+
+}
@@ -0,0 +1,20 @@
+package me.lortseam.completeconfig.data;
+
+import me.lortseam.completeconfig.test.TestConfigs;
+import me.lortseam.completeconfig.test.data.containers.ContainerWithEntry;
+import net.fabricmc.loader.api.FabricLoader;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ConfigCacheTest {
+
+    @Test
+    public void load_writeCacheIfEnabled() {
+        TestConfigs.createLoadedConfig(TestConfigs.options("cached").enableCache(), new ContainerWithEntry());
+        assertTrue(Files.exists(FabricLoader.getInstance().getConfigDir().resolve(".completeconfig-cache").resolve(TestConfigs.MOD_ID).resolve("cached.bin")));
+    }
+
+}
@@ -0,0 +1,71 @@
+package me.lortseam.completeconfig.data;
+
+import com.google.common.jimfs.Configuration;
+import com.google.common.jimfs.Jimfs;
+import me.lortseam.completeconfig.test.TestConfigs;
+import me.lortseam.completeconfig.test.data.containers.ContainerWithEntry;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ConfigFileWriterTest {
+
+    @Test
+    public void write_replaceFileAtomically() throws IOException {
+        var config = TestConfigs.createLoadedConfig(TestConfigs.options("atomic").syncPolicy(SyncPolicy.FILE_AND_DIRECTORY), new ContainerWithEntry());
+        config.save();
+        assertTrue(Files.exists(TestConfigs.getPath("atomic")));
+        try (var files = Files.list(TestConfigs.getDirectory())) {
+            assertTrue(files.noneMatch(file -> file.getFileName().toString().endsWith(".tmp")));
+        }
+    }
+
+    @Test
+    public void write_writeConcurrently() throws IOException, InterruptedException {
+        var path = TestConfigs.getPath("concurrent");
+        List<Thread> threads = new ArrayList<>();
+        List<Throwable> failures = new CopyOnWriteArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            String content = "cweEntry=" + (i % 2 == 0) + "\n";
+            Thread thread = new Thread(() -> {
+                try {
+                    for (int j = 0; j < 50; j++) {
+                        ConfigFileWriter.write(path, content, SyncPolicy.NONE);
+                    }
+                } catch (Throwable e) {
+                    failures.add(e);
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(List.of(), failures);
+        assertTrue(Files.readString(path).matches("cweEntry=(true|false)\n"));
+    }
+
+    @Test
+    public void write_keepPermissions() throws IOException {
+        var fileSystem = Jimfs.newFileSystem(Configuration.unix().toBuilder().setAttributeViews("basic", "posix").build());
+        var path = fileSystem.getPath("config", "permissions.conf");
+        ConfigFileWriter.write(path, "first", SyncPolicy.NONE);
+        var permissions = PosixFilePermissions.fromString("rw-r-----");
+        Files.setPosixFilePermissions(path, permissions);
+        ConfigFileWriter.write(path, "second", SyncPolicy.NONE);
+        assertEquals("second", Files.readString(path));
+        assertEquals(permissions, Files.getPosixFilePermissions(path));
+        try (var files = Files.list(path.getParent())) {
+            assertEquals(1, files.count());
+        }
+    }
+
+}
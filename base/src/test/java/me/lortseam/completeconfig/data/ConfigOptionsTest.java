@@ -0,0 +1,39 @@
+package me.lortseam.completeconfig.data;
+
+import me.lortseam.completeconfig.test.TestConfigs;
+import me.lortseam.completeconfig.test.data.containers.ContainerWithEntry;
+import org.junit.jupiter.api.Test;
+import org.spongepowered.configurate.hocon.HoconConfigurationLoader;
+
+import java.nio.file.Files;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ConfigOptionsTest {
+
+    private static final String MOD_ID = "test";
+
+    @Test
+    public void getNodeOptions_reuseLoaderOptions() {
+        var options = ConfigOptions.mod(MOD_ID).branch(new String[]{"nodeOptions"}).build();
+        var nodeOptions = options.getNodeOptions();
+        assertSame(nodeOptions, options.getNodeOptions());
+        assertSame(nodeOptions, options.createDefaultLoader().defaultOptions());
+        assertSame(nodeOptions, options.createLoader(builder -> {}).defaultOptions());
+    }
+
+    @Test
+    public void getNodeOptions_separatePerOptions() {
+        var first = ConfigOptions.mod(MOD_ID).branch(new String[]{"nodeOptions1"}).build();
+        var second = ConfigOptions.mod(MOD_ID).branch(new String[]{"nodeOptions2"}).build();
+        assertNotSame(first.getNodeOptions(), second.getNodeOptions());
+    }
+
+    @Test
+    public void load_useFileExtensionOfFormat() {
+        var format = ConfigFormat.of("hocon", HoconConfigurationLoader::builder);
+        TestConfigs.createLoadedConfig(TestConfigs.options("format").format(format), new ContainerWithEntry());
+        assertTrue(Files.exists(TestConfigs.getDirectory().resolve("format.hocon")));
+    }
+
+}
@@ -0,0 +1,80 @@
+package me.lortseam.completeconfig.data;
+
+import me.lortseam.completeconfig.api.ConfigContainer;
+import me.lortseam.completeconfig.api.ConfigEntry;
+import me.lortseam.completeconfig.data.transform.Transformation;
+import me.lortseam.completeconfig.test.TestConfigs;
+import me.lortseam.completeconfig.test.data.containers.ContainerWithEntry;
+import org.junit.jupiter.api.Test;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.nio.file.Files;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ConfigRegistryTest implements ConfigContainer {
+
+    @ConfigEntry.BoundedInteger
+    private int firstBoundedInt;
+    @ConfigEntry.BoundedInteger
+    private int secondBoundedInt;
+    @ConfigEntry.Slider
+    private String sliderString;
+    @ConfigEntry
+    @Marker
+    private int markedInt;
+
+    private EntryOrigin of(String fieldName) {
+        try {
+            return new EntryOrigin(null, null, getClass().getDeclaredField(fieldName), this);
+        } catch (NoSuchFieldException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Test
+    public void findTransformation_shareResultForSameTypeAndAnnotations() {
+        var registry = new ConfigRegistry();
+        var transformation = registry.findTransformation(of("firstBoundedInt"));
+        assertTrue(transformation.isPresent());
+        assertSame(transformation, registry.findTransformation(of("secondBoundedInt")));
+    }
+
+    @Test
+    public void findTransformation_invalidateOnRegistration() {
+        var registry = new ConfigRegistry();
+        var origin = of("sliderString");
+        assertTrue(registry.findTransformation(origin).isEmpty());
+        var transformation = new Transformation(Transformation.filter().byType(String.class).byAnnotation(ConfigEntry.Slider.class), Entry::new);
+        registry.registerTransformations(List.of(transformation));
+        assertEquals(transformation, registry.findTransformation(origin).orElseThrow());
+    }
+
+    @Test
+    public void findTransformation_invalidateOnAnnotationRegistration() {
+        var registry = new ConfigRegistry();
+        var origin = of("markedInt");
+        assertTrue(registry.findTransformation(origin).isPresent());
+        // Registers the annotation, so filters which do not expect it reject the field from now on
+        Transformation.filter().byAnnotation(Marker.class);
+        assertTrue(registry.findTransformation(origin).isEmpty());
+    }
+
+    @Test
+    public void loadAll_loadParallelConfigs() {
+        new Config(TestConfigs.options("parallel1").enableParallelLoading(), new ContainerWithEntry());
+        new Config(TestConfigs.options("parallel2").enableParallelLoading(), new ContainerWithEntry());
+        ConfigRegistry.loadAll();
+        assertTrue(Files.exists(TestConfigs.getPath("parallel1")));
+        assertTrue(Files.exists(TestConfigs.getPath("parallel2")));
+    }
+
+    @Target(ElementType.FIELD)
+    @Retention(RetentionPolicy.RUNTIME)
+    private @interface Marker {}
+
+}
@@ -0,0 +1,93 @@
+package me.lortseam.completeconfig.data;
+
+import me.lortseam.completeconfig.api.ConfigEntry;
+import me.lortseam.completeconfig.api.ConfigGroup;
+import me.lortseam.completeconfig.test.TestConfigs;
+import me.lortseam.completeconfig.test.data.containers.ContainerWithEntry;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import static me.lortseam.completeconfig.test.TestConfigs.getEntry;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ConfigSnapshotTest {
+
+    private static Config createLoadedConfig(String branch) {
+        return TestConfigs.createLoadedConfig(branch, new ContainerWithEntry(), new SnapshotGroup());
+    }
+
+    @Test
+    public void get_lookUpByPathAndEntry() {
+        var config = createLoadedConfig("snapshotLookup");
+        Entry<Integer> entry = getEntry(config, "sgEntry");
+        var snapshot = config.getSnapshot();
+        assertEquals(List.of("cweEntry", "snapshotGroup.sgEntry"), List.copyOf(snapshot.getPaths()));
+        assertEquals(Optional.of(3), snapshot.get("snapshotGroup.sgEntry", int.class));
+        assertEquals(Optional.empty(), snapshot.get("sgEntry", int.class));
+        assertEquals(3, snapshot.get(entry));
+        assertThrows(ClassCastException.class, () -> snapshot.get("cweEntry", Integer.class));
+    }
+
+    @Test
+    public void getSnapshot_publishUpdates() {
+        var config = createLoadedConfig("snapshotUpdate");
+        Entry<Integer> entry = getEntry(config, "sgEntry");
+        var snapshot = config.getSnapshot();
+        entry.setValue(4);
+        assertEquals(3, snapshot.get(entry));
+        assertEquals(4, config.getSnapshot().get(entry));
+        assertSame(config.getSnapshot(), config.getSnapshot());
+    }
+
+    @Test
+    public void getSnapshot_publishToOtherThreads() {
+        var config = createLoadedConfig("snapshotThreads");
+        Entry<Integer> entry = getEntry(config, "sgEntry");
+        var snapshot = CompletableFuture.supplyAsync(config::getSnapshot).join();
+        assertSame(snapshot, config.getSnapshot());
+        entry.setValue(7);
+        assertEquals(7, CompletableFuture.supplyAsync(config::getSnapshot).join().get(entry));
+    }
+
+    @Test
+    public void getSnapshot_publishAfterBatchEnd() {
+        var config = createLoadedConfig("snapshotBatch");
+        Entry<Integer> intEntry = getEntry(config, "sgEntry");
+        Entry<Boolean> booleanEntry = getEntry(config, "cweEntry");
+        config.batch(() -> {
+            intEntry.setValue(5);
+            booleanEntry.setValue(true);
+            var snapshot = config.getSnapshot();
+            assertEquals(3, snapshot.get(intEntry));
+            assertFalse(snapshot.get(booleanEntry));
+        });
+        var snapshot = config.getSnapshot();
+        assertEquals(5, snapshot.get(intEntry));
+        assertTrue(snapshot.get(booleanEntry));
+    }
+
+    @Test
+    public void getSnapshot_publishReloadedValues() throws IOException {
+        var config = createLoadedConfig("snapshotReload");
+        Entry<Integer> entry = getEntry(config, "sgEntry");
+        config.getSnapshot();
+        Files.writeString(TestConfigs.getPath("snapshotReload"), "cweEntry=true\nsnapshotGroup {\n    sgEntry=6\n}\n");
+        config.reload();
+        var snapshot = config.getSnapshot();
+        assertEquals(6, snapshot.get(entry));
+        assertEquals(Optional.of(true), snapshot.get("cweEntry", boolean.class));
+    }
+
+    public static class SnapshotGroup implements ConfigGroup {
+
+        @ConfigEntry
+        private int sgEntry = 3;
+
+    }
+
+}
@@ -0,0 +1,73 @@
+package me.lortseam.completeconfig.data;
+
+import me.lortseam.completeconfig.test.TestConfigs;
+import me.lortseam.completeconfig.test.data.containers.ContainerWithEntry;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+import static me.lortseam.completeconfig.test.TestConfigs.getEntry;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ConfigSyncTest {
+
+    private static Config createSyncedConfig(String branch) {
+        return TestConfigs.createLoadedConfig(TestConfigs.options(branch).enableSync(), new ContainerWithEntry());
+    }
+
+    @Test
+    public void connect_sendSnapshot() {
+        var serverConfig = createSyncedConfig("syncServerSnapshot");
+        var clientConfig = createSyncedConfig("syncClientSnapshot");
+        getEntry(serverConfig).setValue(true);
+        var server = new ConfigSyncServer(List.of(serverConfig));
+        var client = new ConfigSyncClient(List.of(clientConfig));
+        server.connect(client::receive);
+        Entry<Boolean> clientEntry = getEntry(clientConfig);
+        assertTrue(clientEntry.getValue());
+        assertTrue(clientEntry.isOverlaid());
+    }
+
+    @Test
+    public void flush_sendOnlyChangedEntriesOnce() {
+        var serverConfig = createSyncedConfig("syncServerDelta");
+        var clientConfig = createSyncedConfig("syncClientDelta");
+        var server = new ConfigSyncServer(List.of(serverConfig));
+        var client = new ConfigSyncClient(List.of(clientConfig));
+        List<byte[]> payloads = new ArrayList<>();
+        server.connect(payload -> {
+            payloads.add(payload);
+            client.receive(payload);
+        });
+        server.flush();
+        assertEquals(1, payloads.size());
+        getEntry(serverConfig).setValue(true);
+        getEntry(serverConfig).setValue(false);
+        getEntry(serverConfig).setValue(true);
+        server.flush();
+        server.flush();
+        assertEquals(2, payloads.size());
+        Entry<Boolean> clientEntry = getEntry(clientConfig);
+        assertTrue(clientEntry.getValue());
+    }
+
+    @Test
+    public void receive_neverSaveSyncedValues() throws IOException {
+        var serverConfig = createSyncedConfig("syncServerOverlay");
+        var clientConfig = createSyncedConfig("syncClientOverlay");
+        getEntry(serverConfig).setValue(true);
+        var server = new ConfigSyncServer(List.of(serverConfig));
+        var client = new ConfigSyncClient(List.of(clientConfig));
+        server.connect(client::receive);
+        clientConfig.save();
+        assertTrue(Files.readString(TestConfigs.getPath("syncClientOverlay")).contains("cweEntry=false"));
+        client.disconnect();
+        Entry<Boolean> clientEntry = getEntry(clientConfig);
+        assertFalse(clientEntry.getValue());
+        assertFalse(clientEntry.isOverlaid());
+    }
+
+}
@@ -1,13 +1,24 @@
 package me.lortseam.completeconfig.data;
 
+import me.lortseam.completeconfig.test.TestConfigs;
+import me.lortseam.completeconfig.test.data.containers.ContainerWithEntry;
+import me.lortseam.completeconfig.test.data.containers.ContainerWithListEntry;
+import me.lortseam.completeconfig.test.data.listeners.CountingContainerListener;
 import org.junit.jupiter.api.Test;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertThrows;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 
-public class ConfigTest {
+import static org.junit.jupiter.api.Assertions.*;
 
-    private static final String MOD_ID = "test";
+public class ConfigTest {
 
     @Test
     public void _throwExceptionIfArgNull() {
@@ -15,4 +26,108 @@ public class ConfigTest {
         assertEquals("optionsBuilder is marked non-null but is null", exception.getMessage());
     }
 
+    @Test
+    public void batch_notifyContainerOnce() {
+        var listener = new CountingContainerListener();
+        var config = TestConfigs.createLoadedConfig("batch", listener);
+        config.batch(() -> {
+            for (Entry<?> entry : config.getEntries()) {
+                ((Entry<Boolean>) entry).setValue(!((Entry<Boolean>) entry).getValue());
+            }
+        });
+        assertEquals(1, listener.getCalls());
+    }
+
+    @Test
+    public void load_deferIfLazy() {
+        var config = TestConfigs.createLoadedConfig(TestConfigs.options("lazy").lazy(), new ContainerWithEntry());
+        Path path = TestConfigs.getPath("lazy");
+        assertFalse(Files.exists(path));
+        assertEquals(1, config.getEntries().size());
+        assertTrue(Files.exists(path));
+    }
+
+    @Test
+    public void load_skipSaveIfUnchanged() throws IOException {
+        var config = TestConfigs.createLoadedConfig("unchanged", new ContainerWithEntry());
+        Path path = TestConfigs.getPath("unchanged");
+        FileTime lastModifiedTime = FileTime.fromMillis(0);
+        Files.setLastModifiedTime(path, lastModifiedTime);
+        config.load();
+        assertEquals(lastModifiedTime, Files.getLastModifiedTime(path));
+    }
+
+    @Test
+    public void reloadIfModified_ignoreFileWhileSavePending() throws IOException {
+        List<Runnable> reloads = new ArrayList<>();
+        var config = TestConfigs.createLoadedConfig(TestConfigs.options("asyncReload").enableAsyncSave(Duration.ofMinutes(1)).enableHotReload(reloads::add), new ContainerWithEntry());
+        ConfigRegistry.flushAll();
+        Entry<Boolean> entry = TestConfigs.getEntry(config);
+        entry.setValue(true);
+        config.saveAsync();
+        config.reloadIfModified();
+        assertTrue(entry.getValue());
+        ConfigRegistry.flushAll();
+        config.reloadIfModified();
+        assertTrue(entry.getValue());
+        Path path = TestConfigs.getPath("asyncReload");
+        assertTrue(Files.readString(path).contains("cweEntry=true"));
+        Files.writeString(path, "cweEntry=false\n");
+        config.reloadIfModified();
+        assertFalse(entry.getValue());
+    }
+
+    @Test
+    public void isDirty_trackChangesSinceSave() {
+        var config = TestConfigs.createLoadedConfig("dirty", new ContainerWithEntry());
+        assertFalse(config.isDirty());
+        Entry<Boolean> entry = TestConfigs.getEntry(config);
+        entry.setValue(!entry.getValue());
+        assertTrue(config.isDirty());
+        config.save();
+        assertFalse(config.isDirty());
+    }
+
+    @Test
+    public void isDirty_detectInPlaceModifications() throws IOException {
+        var config = TestConfigs.createLoadedConfig("dirtyList", new ContainerWithListEntry());
+        assertFalse(config.isDirty());
+        Entry<List<String>> entry = TestConfigs.getEntry(config);
+        entry.getValue().add("b");
+        assertTrue(config.isDirty());
+        config.save();
+        assertFalse(config.isDirty());
+        assertTrue(Files.readString(TestConfigs.getPath("dirtyList")).matches("(?s).*cwleEntry=\\[.*a.*b.*].*"));
+    }
+
+    @Test
+    public void deserialize_keepValuesDirty() {
+        var config = TestConfigs.createLoadedConfig("deserializeDirty", new ContainerWithEntry());
+        config.deserialize(() -> new BufferedReader(new StringReader("cweEntry=true")));
+        assertTrue(config.isDirty());
+    }
+
+    @Test
+    public void reload_leaveConfigClean() throws IOException {
+        var config = TestConfigs.createLoadedConfig("reloadClean", new ContainerWithEntry(), new ContainerWithListEntry());
+        Path path = TestConfigs.getPath("reloadClean");
+        Files.writeString(path, "cweEntry=true\ncwleEntry=[b, c]\n");
+        config.reload();
+        assertFalse(config.isDirty());
+        config.save();
+        assertTrue(Files.readString(path).contains("cweEntry=true"));
+    }
+
+    @Test
+    public void reload_applyModifiedFileWithoutSaving() throws IOException {
+        var config = TestConfigs.createLoadedConfig("reload", new ContainerWithEntry());
+        Entry<Boolean> entry = TestConfigs.getEntry(config);
+        Path path = TestConfigs.getPath("reload");
+        String content = "cweEntry=" + !entry.getValue() + "\n";
+        Files.writeString(path, content);
+        config.reload();
+        assertEquals(!entry.getDefaultValue(), entry.getValue());
+        assertEquals(content, Files.readString(path));
+    }
+
 }
@@ -0,0 +1,25 @@
+package me.lortseam.completeconfig.data;
+
+import me.lortseam.completeconfig.test.TestConfigs;
+import me.lortseam.completeconfig.test.data.containers.ContainerWithEntry;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ConfigWriterTest {
+
+    @Test
+    public void saveAsync_coalesceSaves() {
+        var config = TestConfigs.createLoadedConfig(TestConfigs.options("async").enableAsyncSave(Duration.ofMinutes(1)), new ContainerWithEntry());
+        var first = config.saveAsync();
+        var second = config.saveAsync();
+        assertSame(first, second);
+        ConfigRegistry.flushAll();
+        assertTrue(first.isDone());
+        assertTrue(Files.exists(TestConfigs.getPath("async")));
+    }
+
+}
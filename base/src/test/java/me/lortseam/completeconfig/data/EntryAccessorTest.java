@@ -0,0 +1,97 @@
+package me.lortseam.completeconfig.data;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EntryAccessorTest {
+
+    private static Field getField(String name) {
+        try {
+            return Holder.class.getDeclaredField(name);
+        } catch (NoSuchFieldException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Test
+    public void create_accessField() {
+        var holder = new Holder();
+        var accessor = EntryAccessor.create(getField("intValue"));
+        assertEquals(int.class, accessor.getPrimitiveType());
+        assertEquals(1, accessor.get(holder));
+        accessor.set(holder, 2);
+        assertEquals(2, holder.intValue);
+        assertEquals(2, accessor.getInt(holder));
+    }
+
+    @Test
+    public void create_useSetter() {
+        var holder = new Holder();
+        var accessor = EntryAccessor.create(getField("name"));
+        assertNull(accessor.getPrimitiveType());
+        accessor.set(holder, "b");
+        assertEquals("b", accessor.get(holder));
+        assertTrue(holder.setterCalled);
+    }
+
+    @Test
+    public void create_useSetterWithPrimitiveParameter() {
+        var holder = new Holder();
+        var accessor = EntryAccessor.create(getField("limit"));
+        accessor.set(holder, -1);
+        assertEquals(0, holder.limit);
+        assertEquals(0, accessor.getInt(holder));
+    }
+
+    @Test
+    public void create_accessStaticField() {
+        var accessor = EntryAccessor.create(getField("staticValue"));
+        accessor.set(null, 3L);
+        assertEquals(3L, Holder.staticValue);
+        assertEquals(3L, accessor.getLong(null));
+        assertEquals(3L, accessor.get(new Holder()));
+    }
+
+    @Test
+    public void create_readPrimitivesOfGeneratedAccessor() {
+        var holder = new Holder();
+        var accessor = EntryAccessor.create(getField("doubleValue"), new GeneratedContainerDescriptor.Accessor() {
+            @Override
+            public Object get(Object object) {
+                throw new AssertionError("Primitive values must not be read through the generated accessor");
+            }
+
+            @Override
+            public void set(Object object, Object value) {
+                ((Holder) object).doubleValue = (double) value;
+            }
+        });
+        accessor.set(holder, 1.5);
+        assertEquals(1.5, accessor.getDouble(holder));
+    }
+
+    private static class Holder {
+
+        private static long staticValue;
+
+        private int intValue = 1;
+        private double doubleValue;
+        private String name = "a";
+        private boolean setterCalled;
+        private int limit;
+
+        private void setName(String name) {
+            this.name = name;
+            setterCalled = true;
+        }
+
+        private void setLimit(int limit) {
+            this.limit = Math.max(limit, 0);
+        }
+
+    }
+
+}
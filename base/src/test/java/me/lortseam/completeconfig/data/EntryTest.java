@@ -2,6 +2,9 @@ package me.lortseam.completeconfig.data;
 
 import me.lortseam.completeconfig.api.ConfigEntry;
 import me.lortseam.completeconfig.api.ConfigGroup;
+import me.lortseam.completeconfig.test.TestConfigs;
+import me.lortseam.completeconfig.test.data.containers.ContainerWithBoundedEntry;
+import me.lortseam.completeconfig.test.data.listeners.ContainerListener;
 import me.lortseam.completeconfig.text.TranslationKey;
 import net.fabricmc.loader.api.metadata.ModMetadata;
 import net.minecraft.client.resource.language.I18n;
@@ -12,7 +15,13 @@ import org.junit.jupiter.api.TestInstance;
 import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
 import org.spongepowered.configurate.CommentedConfigurationNode;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.*;
 
@@ -62,6 +71,16 @@ public class EntryTest implements ConfigGroup {
     @ConfigEntry.Color(alphaMode = true)
     private int color;
     private TextColor textColor = TextColor.fromRgb(0);
+    private long codecLong;
+    private AnEnum codecEnum = AnEnum.FOO;
+    private int overlaidInt;
+    @ConfigEntry.BoundedLong
+    private long extremeLong;
+    @ConfigEntry.BoundedFloat
+    private float extremeFloat;
+    @ConfigEntry.BoundedDouble(min = 0, max = 1)
+    private double unitDouble;
+    private boolean overlaidBoolean;
 
     @ConfigEntry(requiresRestart = REQUIRES_RESTART, comment = COMMENT)
     private int field = 123456789;
@@ -132,6 +151,25 @@ public class EntryTest implements ConfigGroup {
         assertEquals(COMMENT, node.comment());
     }
 
+    @Test
+    public void asPrimitive_accessValueUnboxed() {
+        var access = entry.asInt();
+        assertSame(entry, access.getEntry());
+        assertEquals(field, access.get());
+        assertEquals(codecLong, of("codecLong").asLong().get());
+        assertEquals(booleanWithoutAnnotation, of("booleanWithoutAnnotation").asBoolean().get());
+    }
+
+    @Test
+    public void asPrimitive_throwIfTypeDiffers() {
+        assertThrows(UnsupportedOperationException.class, entry::asLong);
+        assertThrows(UnsupportedOperationException.class, entry::asFloat);
+        assertThrows(UnsupportedOperationException.class, entry::asDouble);
+        assertThrows(UnsupportedOperationException.class, entry::asBoolean);
+        assertThrows(UnsupportedOperationException.class, of("codecLong")::asInt);
+        assertThrows(UnsupportedOperationException.class, of("anEnum")::asInt);
+    }
+
     @Test
     @EnabledIfSystemProperty(named = "fabric.dli.env", matches = "client")
     public void create_transformClientProperties() {
@@ -152,8 +190,121 @@ public class EntryTest implements ConfigGroup {
         }
     }
 
+    @Test
+    public void apply_readValuesWithCodec() {
+        var longEntry = (Entry<Long>) of("codecLong");
+        CommentedConfigurationNode node = CommentedConfigurationNode.root();
+        // Parsed as integer
+        node.raw(2);
+        longEntry.apply(node);
+        assertEquals(2L, longEntry.getValue());
+        longEntry.fetch(node);
+        assertEquals(2L, node.raw());
+
+        var enumEntry = (Entry<AnEnum>) of("codecEnum");
+        node.raw("bar");
+        enumEntry.apply(node);
+        assertEquals(AnEnum.BAR, enumEntry.getValue());
+        enumEntry.fetch(node);
+        assertEquals("BAR", node.raw());
+    }
+
+    @Test
+    public void setPrimitive_changeLocalValueIfOverlaid() {
+        var intEntry = (Entry<Integer>) of("overlaidInt");
+        intEntry.applyOverlay(this, 5);
+        intEntry.asInt().set(5);
+        assertEquals(5, intEntry.getLocalValue());
+        intEntry.removeOverlay(this);
+        assertEquals(5, intEntry.asInt().get());
+
+        var booleanEntry = (Entry<Boolean>) of("overlaidBoolean");
+        booleanEntry.applyOverlay(this, true);
+        booleanEntry.asBoolean().set(true);
+        assertEquals(true, booleanEntry.getLocalValue());
+        booleanEntry.removeOverlay(this);
+        assertTrue(booleanEntry.asBoolean().get());
+    }
+
+    @Test
+    public void applyOverlay_keepOverlayOfOtherOwner() {
+        var entry = (Entry<Integer>) of("overlaidInt");
+        int localValue = entry.getValue();
+        var otherOwner = new Object();
+        assertTrue(entry.applyOverlay(this, localValue + 1));
+        assertFalse(entry.applyOverlay(otherOwner, localValue + 2));
+        entry.removeOverlay(otherOwner);
+        assertTrue(entry.isOverlaid());
+        assertEquals(localValue + 1, entry.getValue());
+        assertTrue(entry.applyOverlay(this, localValue + 3));
+        assertEquals(localValue + 3, entry.getValue());
+        entry.removeOverlay(this);
+        assertFalse(entry.isOverlaid());
+        assertEquals(localValue, entry.getValue());
+    }
+
+    @Test
+    public void setValue_keepBoundSemantics() {
+        var longEntry = (Entry<Long>) of("extremeLong");
+        var longAccess = longEntry.asLong();
+        longEntry.setValue(Long.MIN_VALUE);
+        assertEquals(Long.MIN_VALUE, longAccess.get());
+        longAccess.set(Long.MAX_VALUE);
+        assertEquals(Long.MAX_VALUE, longEntry.getValue());
+
+        var floatEntry = (Entry<Float>) of("extremeFloat");
+        floatEntry.setValue(-Float.MAX_VALUE);
+        assertEquals(-Float.MAX_VALUE, floatEntry.asFloat().get());
+        assertThrows(NumberFormatException.class, () -> floatEntry.setValue(Float.POSITIVE_INFINITY));
+
+        var doubleEntry = (Entry<Double>) of("unitDouble");
+        var doubleAccess = doubleEntry.asDouble();
+        doubleEntry.setValue(-0.0);
+        assertEquals(-0.0, doubleEntry.getValue());
+        doubleAccess.set(2);
+        assertEquals(1, doubleAccess.get());
+        doubleEntry.setValue(-Double.MAX_VALUE);
+        assertEquals(0, doubleAccess.get());
+        assertThrows(NumberFormatException.class, () -> doubleAccess.set(Double.NaN));
+        assertThrows(NumberFormatException.class, () -> doubleEntry.setValue(Double.NEGATIVE_INFINITY));
+    }
+
+    @Test
+    public void getValue_skipRevisionIfDisabled() {
+        var config = TestConfigs.createLoadedConfig(TestConfigs.options("readRevision").disableReadRevision(), new ContainerWithBoundedEntry());
+        Entry<Integer> entry = TestConfigs.getEntry(config);
+        assertEquals(10, entry.getDefaultValue());
+        assertEquals(20, entry.peekValue());
+        assertEquals(20, entry.getValue());
+        config.validate();
+        assertEquals(10, entry.getValue());
+        entry.setValue(30);
+        assertEquals(10, entry.peekValue());
+    }
+
+    @Test
+    public void getValue_reviseByDefault() {
+        var config = TestConfigs.createLoadedConfig("revision", new ContainerWithBoundedEntry());
+        Entry<Integer> entry = TestConfigs.getEntry(config);
+        assertEquals(10, entry.getDefaultValue());
+        assertEquals(10, entry.getValue());
+        assertEquals(10, entry.peekValue());
+    }
+
+    @Test
+    public void subscribe_receiveOldAndNewValue() {
+        var config = TestConfigs.createLoadedConfig("subscribe", new ContainerListener());
+        Entry<Boolean> entry = TestConfigs.getEntry(config);
+        List<EntryUpdateEvent<Boolean>> events = new ArrayList<>();
+        entry.subscribe(events::add);
+        entry.setValue(true);
+        assertEquals(1, events.size());
+        assertEquals(false, events.get(0).getOldValue());
+        assertEquals(true, events.get(0).getNewValue());
+    }
+
     private enum AnEnum {
-        FOO
+        FOO, BAR
     }
 
 }
@@ -0,0 +1,112 @@
+package me.lortseam.completeconfig.data;
+
+import me.lortseam.completeconfig.test.TestConfigs;
+import me.lortseam.completeconfig.test.data.containers.ContainerWithEntry;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+
+import static me.lortseam.completeconfig.test.TestConfigs.getEntry;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LayeredConfigViewTest {
+
+    private static Config createLoadedConfig(String branch) {
+        return TestConfigs.createLoadedConfig(branch, new ContainerWithEntry());
+    }
+
+    @Test
+    public void get_resolveHighestLayer() {
+        var config = createLoadedConfig("layersResolve");
+        Entry<Boolean> entry = getEntry(config);
+        var world = new ConfigLayer("world");
+        var player = new ConfigLayer("player");
+        try (var worldView = new LayeredConfigView(config, world); var playerView = new LayeredConfigView(config, world, player)) {
+            assertFalse(playerView.get(entry));
+            world.set(entry, true);
+            assertTrue(worldView.get(entry));
+            assertTrue(playerView.get(entry));
+            player.set(entry, false);
+            assertTrue(worldView.get(entry));
+            assertFalse(playerView.get(entry));
+            assertEquals(player, playerView.getProvidingLayer(entry).orElseThrow());
+            player.remove(entry);
+            assertTrue(playerView.get(entry));
+            assertFalse(entry.getValue());
+        }
+    }
+
+    @Test
+    public void bind_neverSaveLayerValues() throws IOException {
+        var config = createLoadedConfig("layersBind");
+        Entry<Boolean> entry = getEntry(config);
+        var world = new ConfigLayer("world");
+        world.set(entry, true);
+        try (var view = new LayeredConfigView(config, world)) {
+            view.bind();
+            assertTrue(entry.getValue());
+            config.save();
+            assertTrue(Files.readString(TestConfigs.getPath("layersBind")).contains("cweEntry=false"));
+            world.clear();
+            assertFalse(entry.getValue());
+            world.set(entry, true);
+            assertTrue(entry.getValue());
+        }
+        assertFalse(entry.getValue());
+    }
+
+    @Test
+    public void bind_throwIfAlreadyOverlaid() {
+        var config = createLoadedConfig("layersOverlaid");
+        Entry<Boolean> entry = getEntry(config);
+        entry.applyOverlay(this, true);
+        var world = new ConfigLayer("world");
+        world.set(entry, false);
+        try (var view = new LayeredConfigView(config, world)) {
+            assertThrows(IllegalStateException.class, view::bind);
+            assertTrue(entry.getValue());
+        }
+        assertTrue(entry.getValue());
+    }
+
+    @Test
+    public void bind_keepOverlaysAppliedAfterBind() {
+        var config = createLoadedConfig("layersLaterOverlay");
+        Entry<Boolean> entry = getEntry(config);
+        var world = new ConfigLayer("world");
+        try (var view = new LayeredConfigView(config, world)) {
+            view.bind();
+            entry.applyOverlay(this, false);
+            world.set(entry, true);
+            assertFalse(entry.getValue());
+            world.remove(entry);
+            assertTrue(entry.isOverlaid());
+            assertFalse(entry.getValue());
+        }
+        assertTrue(entry.isOverlaid());
+        entry.removeOverlay(this);
+        assertFalse(entry.isOverlaid());
+    }
+
+    @Test
+    public void get_resolveLatestValueAfterConcurrentChanges() throws InterruptedException {
+        var config = createLoadedConfig("layersConcurrent");
+        Entry<Boolean> entry = getEntry(config);
+        var world = new ConfigLayer("world");
+        try (var view = new LayeredConfigView(config, world)) {
+            var writer = new Thread(() -> {
+                for (int i = 0; i < 10000; i++) {
+                    world.set(entry, i % 2 == 0);
+                }
+            });
+            writer.start();
+            while (writer.isAlive()) {
+                view.get(entry);
+            }
+            writer.join();
+            assertEquals(world.get(entry).orElseThrow(), view.get(entry));
+        }
+    }
+
+}
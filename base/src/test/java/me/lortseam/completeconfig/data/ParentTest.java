@@ -50,6 +50,23 @@ public class ParentTest {
         assertEquals(1, parent.getClusters().size());
     }
 
+    @Test
+    public void resolve_bindEntriesPerInstance() {
+        ContainerWithEntry first = new ContainerWithEntry(), second = new ContainerWithEntry();
+        parent.resolve(first, second);
+        assertEquals(2, parent.getEntries().size());
+        assertNotSame(Iterables.get(parent.getEntries(), 0).origin.getObject(), Iterables.get(parent.getEntries(), 1).origin.getObject());
+    }
+
+    @Test
+    public void resolve_useGeneratedDescriptor() {
+        parent.resolve(new ContainerWithGeneratedDescriptor());
+        assertEquals(1, parent.getEntries().size());
+        Entry<Integer> entry = Iterables.getOnlyElement(parent.getEntries());
+        entry.setValue(5);
+        assertEquals(5, entry.getValue());
+    }
+
     @Test
     public void resolve_excludeFieldIfNotAnnotated() {
         parent.resolve(new ContainerWithField());
@@ -0,0 +1,66 @@
+package me.lortseam.completeconfig.test;
+
+import com.google.common.collect.Iterables;
+import me.lortseam.completeconfig.api.ConfigContainer;
+import me.lortseam.completeconfig.data.Cluster;
+import me.lortseam.completeconfig.data.Config;
+import me.lortseam.completeconfig.data.ConfigOptions;
+import me.lortseam.completeconfig.data.Entry;
+import me.lortseam.completeconfig.data.Parent;
+import net.fabricmc.loader.api.FabricLoader;
+
+import java.nio.file.Path;
+import java.util.Optional;
+
+public final class TestConfigs {
+
+    public static final String MOD_ID = "test";
+
+    private TestConfigs() {}
+
+    public static ConfigOptions.Builder options(String branch) {
+        return ConfigOptions.mod(MOD_ID).branch(new String[]{branch});
+    }
+
+    public static Config createLoadedConfig(ConfigOptions.Builder options, ConfigContainer... containers) {
+        var config = new Config(options, containers);
+        config.load();
+        return config;
+    }
+
+    public static Config createLoadedConfig(String branch, ConfigContainer... containers) {
+        return createLoadedConfig(options(branch), containers);
+    }
+
+    public static Path getDirectory() {
+        return FabricLoader.getInstance().getConfigDir().resolve(MOD_ID);
+    }
+
+    public static Path getPath(String branch) {
+        return getDirectory().resolve(branch + ".conf");
+    }
+
+    public static <T> Entry<T> getEntry(Config config) {
+        return (Entry<T>) Iterables.getOnlyElement(config.getEntries());
+    }
+
+    public static <T> Entry<T> getEntry(Config config, String id) {
+        return (Entry<T>) findEntry(config, id).orElseThrow();
+    }
+
+    private static Optional<Entry> findEntry(Parent parent, String id) {
+        for (Entry entry : parent.getEntries()) {
+            if (entry.getId().equals(id)) {
+                return Optional.of(entry);
+            }
+        }
+        for (Cluster cluster : parent.getClusters()) {
+            var entry = findEntry(cluster, id);
+            if (entry.isPresent()) {
+                return entry;
+            }
+        }
+        return Optional.empty();
+    }
+
+}
@@ -0,0 +1,11 @@
+package me.lortseam.completeconfig.test.data.containers;
+
+import me.lortseam.completeconfig.api.ConfigContainer;
+import me.lortseam.completeconfig.api.ConfigEntry;
+
+public class ContainerWithBoundedEntry implements ConfigContainer {
+
+    @ConfigEntry.BoundedInteger(min = 0, max = 10)
+    private int cwbeEntry = 20;
+
+}
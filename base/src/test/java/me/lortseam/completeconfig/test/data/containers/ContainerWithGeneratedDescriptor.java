@@ -0,0 +1,10 @@
+package me.lortseam.completeconfig.test.data.containers;
+
+import me.lortseam.completeconfig.api.ConfigContainer;
+
+public class ContainerWithGeneratedDescriptor implements ConfigContainer {
+
+    // Not annotated, only listed by the descriptor
+    int cwgdEntry;
+
+}
@@ -0,0 +1,38 @@
+package me.lortseam.completeconfig.test.data.containers;
+
+import me.lortseam.completeconfig.data.GeneratedContainerDescriptor;
+
+public final class ContainerWithGeneratedDescriptor_ConfigDescriptor implements GeneratedContainerDescriptor {
+
+    @Override
+    public String[] getEntryFields() {
+        return new String[] {"cwgdEntry"};
+    }
+
+    @Override
+    public String[] getTransitiveFields() {
+        return new String[] {};
+    }
+
+    @Override
+    public Class<?>[] getTransitiveClasses() {
+        return new Class<?>[] {};
+    }
+
+    @Override
+    public Accessor getAccessor(String field) {
+        if (!field.equals("cwgdEntry")) return null;
+        return new Accessor() {
+            @Override
+            public Object get(Object object) {
+                return ((ContainerWithGeneratedDescriptor) object).cwgdEntry;
+            }
+
+            @Override
+            public void set(Object object, Object value) {
+                ((ContainerWithGeneratedDescriptor) object).cwgdEntry = (int) value;
+            }
+        };
+    }
+
+}
@@ -0,0 +1,14 @@
+package me.lortseam.completeconfig.test.data.containers;
+
+import me.lortseam.completeconfig.api.ConfigContainer;
+import me.lortseam.completeconfig.api.ConfigEntry;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class ContainerWithListEntry implements ConfigContainer {
+
+    @ConfigEntry
+    private List<String> cwleEntry = new ArrayList<>(List.of("a"));
+
+}
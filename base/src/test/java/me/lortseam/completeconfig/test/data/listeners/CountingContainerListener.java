@@ -0,0 +1,23 @@
+package me.lortseam.completeconfig.test.data.listeners;
+
+import me.lortseam.completeconfig.api.ConfigContainer;
+import me.lortseam.completeconfig.api.ConfigEntry;
+
+public class CountingContainerListener implements ConfigContainer {
+
+    @ConfigEntry
+    private boolean first;
+    @ConfigEntry
+    private boolean second;
+    private int calls;
+
+    @Override
+    public void onContainerEntryUpdate() {
+        calls++;
+    }
+
+    public int getCalls() {
+        return calls;
+    }
+
+}
@@ -0,0 +1,67 @@
+package me.lortseam.completeconfig.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class NumberUtilsTest {
+
+    private static final List<Double> DOUBLES = List.of(-Double.MAX_VALUE, -1.5, -Double.MIN_VALUE, -0.0, 0.0, Double.MIN_VALUE, 0.1, 1.5, Double.MAX_VALUE);
+    private static final List<Float> FLOATS = List.of(-Float.MAX_VALUE, -1.5f, -Float.MIN_VALUE, -0.0f, 0.0f, Float.MIN_VALUE, 0.1f, 1.5f, Float.MAX_VALUE);
+    private static final List<Long> LONGS = List.of(Long.MIN_VALUE, Long.MIN_VALUE + 1, -1L, 0L, 1L, Long.MAX_VALUE - 1, Long.MAX_VALUE);
+    private static final List<Integer> INTEGERS = List.of(Integer.MIN_VALUE, -1, 0, 1, Integer.MAX_VALUE);
+
+    private static <T extends Number> void assertSameOrder(List<T> numbers, Class<T> type) {
+        Comparator<T> comparator = NumberUtils.comparator(type);
+        for (T first : numbers) {
+            for (T second : numbers) {
+                assertEquals(Integer.signum(NumberUtils.compare(first, second)), Integer.signum(comparator.compare(first, second)), first + " compared to " + second);
+            }
+        }
+    }
+
+    @Test
+    public void comparator_orderLikeCompare() {
+        assertSameOrder(DOUBLES, Double.class);
+        assertSameOrder(FLOATS, Float.class);
+        assertSameOrder(LONGS, Long.class);
+        assertSameOrder(INTEGERS, Integer.class);
+        assertSameOrder(List.of(BigDecimal.ONE.negate(), BigDecimal.ZERO, new BigDecimal("1e400")), BigDecimal.class);
+    }
+
+    @Test
+    public void comparator_treatZerosAsEqual() {
+        assertEquals(0, NumberUtils.<Double>comparator(Double.class).compare(-0.0, 0.0));
+        assertEquals(0, NumberUtils.<Float>comparator(Float.class).compare(0.0f, -0.0f));
+    }
+
+    @Test
+    public void comparator_throwForNonFiniteValues() {
+        Comparator<Double> comparator = NumberUtils.comparator(Double.class);
+        for (double value : new double[]{Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY}) {
+            assertThrows(NumberFormatException.class, () -> NumberUtils.compare(value, 0.0));
+            assertThrows(NumberFormatException.class, () -> comparator.compare(value, 0.0));
+            assertThrows(NumberFormatException.class, () -> comparator.compare(0.0, value));
+        }
+        assertThrows(NumberFormatException.class, () -> NumberUtils.<Float>comparator(Float.class).compare(Float.NaN, 0.0f));
+    }
+
+    @Test
+    public void isPositive_test() {
+        assertTrue(NumberUtils.isPositive(1));
+        assertTrue(NumberUtils.isPositive(Long.MAX_VALUE));
+        assertTrue(NumberUtils.isPositive(Double.MIN_VALUE));
+        assertTrue(NumberUtils.isPositive(new BigDecimal("0.5")));
+        assertFalse(NumberUtils.isPositive(0));
+        assertFalse(NumberUtils.isPositive(Long.MIN_VALUE));
+        assertFalse(NumberUtils.isPositive(-0.0));
+        assertFalse(NumberUtils.isPositive(0.0f));
+        assertThrows(NumberFormatException.class, () -> NumberUtils.isPositive(Double.NaN));
+        assertThrows(NumberFormatException.class, () -> NumberUtils.isPositive(Float.POSITIVE_INFINITY));
+    }
+
+}
@@ -23,6 +23,8 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 /**
@@ -36,14 +38,14 @@ public final class ClothConfigScreenBuilder extends ConfigScreenBuilder<Abstract
                     .setDefaultValue(entry.getDefaultValue())
                     .setYesNoTextSupplier(entry.getValueFormatter())
                     .setTooltip(entry.getDescription().map(description -> new Text[]{description}))
-                    .setSaveConsumer(entry::setValue)
+                    .setSaveConsumer(saveConsumer(entry))
                     .build(),
                     entry -> !entry.isCheckbox(), boolean.class, Boolean.class),
             GuiProvider.create((Entry<Integer> entry) -> ConfigEntryBuilder.create()
                     .startIntField(entry.getName(), entry.getValue())
                     .setDefaultValue(entry.getDefaultValue())
                     .setTooltip(entry.getDescription().map(description -> new Text[]{description}))
-                    .setSaveConsumer(entry::setValue)
+                    .setSaveConsumer(saveConsumer(entry))
                     .build(),
                     int.class, Integer.class),
             GuiProvider.create(BoundedEntry.class, (BoundedEntry<Integer> entry) -> ConfigEntryBuilder.create()
@@ -52,7 +54,7 @@ public final class ClothConfigScreenBuilder extends ConfigScreenBuilder<Abstract
                     .setMin(entry.getMin())
                     .setMax(entry.getMax())
                     .setTooltip(entry.getDescription().map(description -> new Text[]{description}))
-                    .setSaveConsumer(entry::setValue)
+                    .setSaveConsumer(saveConsumer(entry))
                     .build(),
                     int.class, Integer.class),
             GuiProvider.create(SliderEntry.class, (SliderEntry<Integer> entry) -> ConfigEntryBuilder.create()
@@ -60,7 +62,7 @@ public final class ClothConfigScreenBuilder extends ConfigScreenBuilder<Abstract
                     .setDefaultValue(entry.getDefaultValue())
                     .setTextGetter(entry.getValueFormatter())
                     .setTooltip(entry.getDescription().map(description -> new Text[]{description}))
-                    .setSaveConsumer(entry::setValue)
+                    .setSaveConsumer(saveConsumer(entry))
                     .build(),
                     int.class, Integer.class),
             GuiProvider.create(ColorEntry.class, (ColorEntry<Integer> entry) -> ConfigEntryBuilder.create()
@@ -68,14 +70,14 @@ public final class ClothConfigScreenBuilder extends ConfigScreenBuilder<Abstract
                     .setDefaultValue(entry.getDefaultValue())
                     .setAlphaMode(entry.isAlphaMode())
                     .setTooltip(entry.getDescription().map(description -> new Text[]{description}))
-                    .setSaveConsumer(entry::setValue)
+                    .setSaveConsumer(saveConsumer(entry))
                     .build(),
                     int.class, Integer.class),
             GuiProvider.create((Entry<Long> entry) -> ConfigEntryBuilder.create()
                     .startLongField(entry.getName(), entry.getValue())
                     .setDefaultValue(entry.getDefaultValue())
                     .setTooltip(entry.getDescription().map(description -> new Text[]{description}))
-                    .setSaveConsumer(entry::setValue)
+                    .setSaveConsumer(saveConsumer(entry))
                     .build(),
                     long.class, Long.class),
             GuiProvider.create(BoundedEntry.class, (BoundedEntry<Long> entry) -> ConfigEntryBuilder.create()
@@ -84,7 +86,7 @@ public final class ClothConfigScreenBuilder extends ConfigScreenBuilder<Abstract
                     .setMin(entry.getMin())
                     .setMax(entry.getMax())
                     .setTooltip(entry.getDescription().map(description -> new Text[]{description}))
-                    .setSaveConsumer(entry::setValue)
+                    .setSaveConsumer(saveConsumer(entry))
                     .build(),
                     long.class, Long.class),
             GuiProvider.create(SliderEntry.class, (SliderEntry<Long> entry) -> ConfigEntryBuilder.create()
@@ -92,14 +94,14 @@ public final class ClothConfigScreenBuilder extends ConfigScreenBuilder<Abstract
                     .setDefaultValue(entry.getDefaultValue())
                     .setTextGetter(entry.getValueFormatter())
                     .setTooltip(entry.getDescription().map(description -> new Text[]{description}))
-                    .setSaveConsumer(entry::setValue)
+                    .setSaveConsumer(saveConsumer(entry))
                     .build(),
                     long.class, Long.class),
             GuiProvider.create((Entry<Float> entry) -> ConfigEntryBuilder.create()
                     .startFloatField(entry.getName(), entry.getValue())
                     .setDefaultValue(entry.getDefaultValue())
                     .setTooltip(entry.getDescription().map(description -> new Text[]{description}))
-                    .setSaveConsumer(entry::setValue)
+                    .setSaveConsumer(saveConsumer(entry))
                     .build(),
                     float.class, Float.class),
             GuiProvider.create(BoundedEntry.class, (BoundedEntry<Float> entry) -> ConfigEntryBuilder.create()
@@ -108,14 +110,14 @@ public final class ClothConfigScreenBuilder extends ConfigScreenBuilder<Abstract
                     .setMin(entry.getMin())
                     .setMax(entry.getMax())
                     .setTooltip(entry.getDescription().map(description -> new Text[]{description}))
-                    .setSaveConsumer(entry::setValue)
+                    .setSaveConsumer(saveConsumer(entry))
                     .build(),
                     float.class, Float.class),
             GuiProvider.create((Entry<Double> entry) -> ConfigEntryBuilder.create()
                     .startDoubleField(entry.getName(), entry.getValue())
                     .setDefaultValue(entry.getDefaultValue())
                     .setTooltip(entry.getDescription().map(description -> new Text[]{description}))
-                    .setSaveConsumer(entry::setValue)
+                    .setSaveConsumer(saveConsumer(entry))
                     .build(),
                     double.class, Double.class),
             GuiProvider.create(BoundedEntry.class, (BoundedEntry<Double> entry) -> ConfigEntryBuilder.create()
@@ -124,14 +126,14 @@ public final class ClothConfigScreenBuilder extends ConfigScreenBuilder<Abstract
                     .setMin(entry.getMin())
                     .setMax(entry.getMax())
                     .setTooltip(entry.getDescription().map(description -> new Text[]{description}))
-                    .setSaveConsumer(entry::setValue)
+                    .setSaveConsumer(saveConsumer(entry))
                     .build(),
                     double.class, Double.class),
             GuiProvider.create((Entry<String> entry) -> ConfigEntryBuilder.create()
                     .startStrField(entry.getName(), entry.getValue())
                     .setDefaultValue(entry.getDefaultValue())
                     .setTooltip(entry.getDescription().map(description -> new Text[]{description}))
-                    .setSaveConsumer(entry::setValue)
+                    .setSaveConsumer(saveConsumer(entry))
                     .build(),
                     String.class),
             GuiProvider.create(EnumEntry.class, (EnumEntry<Enum<?>> entry) -> ConfigEntryBuilder.create()
@@ -139,7 +141,7 @@ public final class ClothConfigScreenBuilder extends ConfigScreenBuilder<Abstract
                     .setDefaultValue(entry.getDefaultValue())
                     .setTooltip(entry.getDescription().map(description -> new Text[]{description}))
                     .setEnumNameProvider(value -> entry.getValueFormatter().apply(value))
-                    .setSaveConsumer(entry::setValue)
+                    .setSaveConsumer(saveConsumer(entry))
                     .build()),
             GuiProvider.create(DropdownEntry.class, (DropdownEntry<Enum<?>> entry) -> {
                 List<Enum<?>> enumValues = Arrays.asList(entry.getEnumConstants());
@@ -153,77 +155,77 @@ public final class ClothConfigScreenBuilder extends ConfigScreenBuilder<Abstract
                         .setSuggestionMode(entry.isSuggestionMode())
                         .setDefaultValue(entry.getDefaultValue())
                         .setTooltip(entry.getDescription().map(description -> new Text[]{description}))
-                        .setSaveConsumer(entry::setValue)
+                        .setSaveConsumer(saveConsumer(entry))
                         .build();
             }),
             GuiProvider.create((Entry<List<Integer>> entry) -> ConfigEntryBuilder.create()
                     .startIntList(entry.getName(), entry.getValue())
                     .setDefaultValue(entry.getDefaultValue())
                     .setTooltip(entry.getDescription().map(description -> new Text[]{description}))
-                    .setSaveConsumer(entry::setValue)
+                    .setSaveConsumer(saveConsumer(entry))
                     .build(),
                     new TypeToken<List<Integer>>() {}.getType()),
             GuiProvider.create((Entry<Integer[]> entry) -> ConfigEntryBuilder.create()
                     .startIntList(entry.getName(), Arrays.asList(entry.getValue()))
                     .setDefaultValue(Arrays.asList(entry.getDefaultValue()))
                     .setTooltip(entry.getDescription().map(description -> new Text[]{description}))
-                    .setSaveConsumer(list -> entry.setValue(list.toArray(new Integer[0])))
+                    .setSaveConsumer(saveConsumer(entry, (List<Integer> list) -> list.toArray(new Integer[0])))
                     .build(),
                     int[].class, Integer[].class),
             GuiProvider.create((Entry<List<Long>> entry) -> ConfigEntryBuilder.create()
                     .startLongList(entry.getName(), entry.getValue())
                     .setDefaultValue(entry.getDefaultValue())
                     .setTooltip(entry.getDescription().map(description -> new Text[]{description}))
-                    .setSaveConsumer(entry::setValue)
+                    .setSaveConsumer(saveConsumer(entry))
                     .build(),
                     new TypeToken<List<Long>>() {}.getType()),
             GuiProvider.create((Entry<Long[]> entry) -> ConfigEntryBuilder.create()
                     .startLongList(entry.getName(), Arrays.asList(entry.getValue()))
                     .setDefaultValue(Arrays.asList(entry.getDefaultValue()))
                     .setTooltip(entry.getDescription().map(description -> new Text[]{description}))
-                    .setSaveConsumer(list -> entry.setValue(list.toArray(new Long[0])))
+                    .setSaveConsumer(saveConsumer(entry, (List<Long> list) -> list.toArray(new Long[0])))
                     .build(),
                     long[].class, Long[].class),
             GuiProvider.create((Entry<List<Float>> entry) -> ConfigEntryBuilder.create()
                     .startFloatList(entry.getName(), entry.getValue())
                     .setDefaultValue(entry.getDefaultValue())
                     .setTooltip(entry.getDescription().map(description -> new Text[]{description}))
-                    .setSaveConsumer(entry::setValue)
+                    .setSaveConsumer(saveConsumer(entry))
                     .build(),
                     new TypeToken<List<Float>>() {}.getType()),
             GuiProvider.create((Entry<Float[]> entry) -> ConfigEntryBuilder.create()
                     .startFloatList(entry.getName(), Arrays.asList(entry.getValue()))
                     .setDefaultValue(Arrays.asList(entry.getDefaultValue()))
                     .setTooltip(entry.getDescription().map(description -> new Text[]{description}))
-                    .setSaveConsumer(list -> entry.setValue(list.toArray(new Float[0])))
+                    .setSaveConsumer(saveConsumer(entry, (List<Float> list) -> list.toArray(new Float[0])))
                     .build(),
                     float[].class, Float[].class),
             GuiProvider.create((Entry<List<Double>> entry) -> ConfigEntryBuilder.create()
                     .startDoubleList(entry.getName(), entry.getValue())
                     .setDefaultValue(entry.getDefaultValue())
                     .setTooltip(entry.getDescription().map(description -> new Text[]{description}))
-                    .setSaveConsumer(entry::setValue)
+                    .setSaveConsumer(saveConsumer(entry))
                     .build(),
                     new TypeToken<List<Double>>() {}.getType()),
             GuiProvider.create((Entry<Double[]> entry) -> ConfigEntryBuilder.create()
                     .startDoubleList(entry.getName(), Arrays.asList(entry.getValue()))
                     .setDefaultValue(Arrays.asList(entry.getDefaultValue()))
                     .setTooltip(entry.getDescription().map(description -> new Text[]{description}))
-                    .setSaveConsumer(list -> entry.setValue(list.toArray(new Double[0])))
+                    .setSaveConsumer(saveConsumer(entry, (List<Double> list) -> list.toArray(new Double[0])))
                     .build(),
                     double[].class, Double[].class),
             GuiProvider.create((Entry<List<String>> entry) -> ConfigEntryBuilder.create()
                     .startStrList(entry.getName(), entry.getValue())
                     .setDefaultValue(entry.getDefaultValue())
                     .setTooltip(entry.getDescription().map(description -> new Text[]{description}))
-                    .setSaveConsumer(entry::setValue)
+                    .setSaveConsumer(saveConsumer(entry))
                     .build(),
                     new TypeToken<List<String>>() {}.getType()),
             GuiProvider.create((Entry<String[]> entry) -> ConfigEntryBuilder.create()
                     .startStrList(entry.getName(), Arrays.asList(entry.getValue()))
                     .setDefaultValue(Arrays.asList(entry.getDefaultValue()))
                     .setTooltip(entry.getDescription().map(description -> new Text[]{description}))
-                    .setSaveConsumer(list -> entry.setValue(list.toArray(new String[0])))
+                    .setSaveConsumer(saveConsumer(entry, (List<String> list) -> list.toArray(new String[0])))
                     .build(),
                     String[].class),
             GuiProvider.create(ColorEntry.class, (ColorEntry<Color> entry) -> ConfigEntryBuilder.create()
@@ -231,7 +233,7 @@ public final class ClothConfigScreenBuilder extends ConfigScreenBuilder<Abstract
                     .setDefaultValue(entry.getDefaultValue().getRGB())
                     .setAlphaMode(entry.isAlphaMode())
                     .setTooltip(entry.getDescription().map(description -> new Text[]{description}))
-                    .setSaveConsumer(rgb -> entry.setValue(new Color(rgb)))
+                    .setSaveConsumer(saveConsumer(entry, (Integer rgb) -> new Color(rgb)))
                     .build(),
                     Color.class)
     );
@@ -242,6 +244,39 @@ public final class ClothConfigScreenBuilder extends ConfigScreenBuilder<Abstract
         }
     }
 
+    /**
+     * The save batch of the screen which is currently being built on this thread.
+     */
+    private static final ThreadLocal<SaveBatch> buildingSaveBatch = new ThreadLocal<>();
+
+    /**
+     * Creates a save consumer which sets the value of the entry. If the consumer is created while a screen is being
+     * built, all values saved by that screen are applied in a single batch, so listeners are only notified once per save.
+     * GUI providers should use this instead of {@link Entry#setValue(Object)}.
+     *
+     * @param entry the entry
+     * @return the save consumer
+     */
+    public static <T> Consumer<T> saveConsumer(Entry<T> entry) {
+        return saveConsumer(entry, Function.identity());
+    }
+
+    /**
+     * Creates a save consumer which converts the saved value and sets it as the value of the entry.
+     *
+     * @param entry the entry
+     * @param converter the function converting the saved value to a value of the entry
+     * @return the save consumer
+     * @see #saveConsumer(Entry)
+     */
+    public static <T, V> Consumer<V> saveConsumer(Entry<T> entry, Function<V, T> converter) {
+        SaveBatch saveBatch = buildingSaveBatch.get();
+        if (saveBatch == null) {
+            return value -> entry.setValue(converter.apply(value));
+        }
+        return value -> saveBatch.setValue(entry, converter.apply(value));
+    }
+
     private final Supplier<ConfigBuilder> supplier;
 
     public ClothConfigScreenBuilder(@NonNull Supplier<ConfigBuilder> supplier) {
@@ -255,24 +290,30 @@ public final class ClothConfigScreenBuilder extends ConfigScreenBuilder<Abstract
 
     @Override
     public Screen build(Screen parentScreen, Config config) {
+        var saveBatch = new SaveBatch(config);
         ConfigBuilder builder = supplier.get()
                 .setParentScreen(parentScreen)
                 .setDefaultBackgroundTexture(background)
-                .setSavingRunnable(config::save);
+                .setSavingRunnable(saveBatch::save);
         builder.setTitle(getTitle(config));
-        if (!config.getEntries().isEmpty()) {
-            ConfigCategory category = builder.getOrCreateCategory(config.getName());
-            for (Entry<?> entry : config.getEntries()) {
-                category.addEntry(buildEntry(entry));
+        buildingSaveBatch.set(saveBatch);
+        try {
+            if (!config.getEntries().isEmpty()) {
+                ConfigCategory category = builder.getOrCreateCategory(config.getName());
+                for (Entry<?> entry : config.getEntries()) {
+                    category.addEntry(buildEntry(entry));
+                }
             }
-        }
-        for(Cluster cluster : config.getClusters()) {
-            ConfigCategory category = builder.getOrCreateCategory(cluster.getName());
-            category.setDescription(() -> cluster.getDescription().map(description -> new StringVisitable[]{description}));
-            cluster.getBackground().ifPresent(category::setBackground);
-            for (AbstractConfigListEntry<?> entry : buildCategoryList(cluster)) {
-                category.addEntry(entry);
+            for(Cluster cluster : config.getClusters()) {
+                ConfigCategory category = builder.getOrCreateCategory(cluster.getName());
+                category.setDescription(() -> cluster.getDescription().map(description -> new StringVisitable[]{description}));
+                cluster.getBackground().ifPresent(category::setBackground);
+                for (AbstractConfigListEntry<?> entry : buildCategoryList(cluster)) {
+                    category.addEntry(entry);
+                }
             }
+        } finally {
+            buildingSaveBatch.remove();
         }
         return builder.build();
     }
@@ -298,4 +339,34 @@ public final class ClothConfigScreenBuilder extends ConfigScreenBuilder<Abstract
         return listEntry;
     }
 
+    /**
+     * Collects the values applied by a screen save into a single batch, so listeners are only notified once per save.
+     * Cloth Config calls all save consumers before the saving runnable, which closes the batch.
+     */
+    private static final class SaveBatch {
+
+        private final Config config;
+        private Config.Batch batch;
+
+        private SaveBatch(Config config) {
+            this.config = config;
+        }
+
+        private <T> void setValue(Entry<T> entry, T value) {
+            if (batch == null) {
+                batch = config.startBatch();
+            }
+            entry.setValue(value);
+        }
+
+        private void save() {
+            if (batch != null) {
+                batch.close();
+                batch = null;
+            }
+            config.save();
+        }
+
+    }
+
 }
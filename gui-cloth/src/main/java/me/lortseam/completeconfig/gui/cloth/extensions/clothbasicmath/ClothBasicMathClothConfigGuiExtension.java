@@ -10,6 +10,8 @@ import net.minecraft.text.Text;
 
 import java.util.List;
 
+import static me.lortseam.completeconfig.gui.cloth.ClothConfigScreenBuilder.saveConsumer;
+
 public final class ClothBasicMathClothConfigGuiExtension implements ClothConfigGuiExtension {
 
     @Override
@@ -19,7 +21,7 @@ public final class ClothBasicMathClothConfigGuiExtension implements ClothConfigG
                         .setAlphaMode(entry.isAlphaMode())
                         .setDefaultValue(entry.getDefaultValue().getColor())
                         .setTooltip(entry.getDescription().map(description -> new Text[]{description}))
-                        .setSaveConsumer2(entry::setValue)
+                        .setSaveConsumer2(saveConsumer(entry))
                         .build(),
                 Color.class));
     }
@@ -10,6 +10,8 @@ import net.minecraft.text.Text;
 
 import java.util.List;
 
+import static me.lortseam.completeconfig.gui.cloth.ClothConfigScreenBuilder.saveConsumer;
+
 public final class ClothConfigClothConfigGuiExtension implements ClothConfigGuiExtension {
 
     @Override
@@ -18,7 +20,7 @@ public final class ClothConfigClothConfigGuiExtension implements ClothConfigGuiE
                         .startModifierKeyCodeField(entry.getName(), entry.getValue())
                         .setDefaultValue(entry.getDefaultValue())
                         .setTooltip(entry.getDescription().map(description -> new Text[]{description}))
-                        .setModifierSaveConsumer(entry::setValue)
+                        .setModifierSaveConsumer(saveConsumer(entry))
                         .build(),
                 ModifierKeyCode.class));
     }
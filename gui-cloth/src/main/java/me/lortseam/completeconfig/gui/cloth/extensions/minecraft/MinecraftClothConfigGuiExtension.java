@@ -12,6 +12,8 @@ import net.minecraft.text.TextColor;
 
 import java.util.List;
 
+import static me.lortseam.completeconfig.gui.cloth.ClothConfigScreenBuilder.saveConsumer;
+
 public final class MinecraftClothConfigGuiExtension implements ClothConfigGuiExtension {
 
     @Override
@@ -20,14 +22,14 @@ public final class MinecraftClothConfigGuiExtension implements ClothConfigGuiExt
                                 .startColorField(entry.getName(), entry.getValue())
                                 .setDefaultValue(entry.getDefaultValue())
                                 .setTooltip(entry.getDescription().map(description -> new Text[]{description}))
-                                .setSaveConsumer3(entry::setValue)
+                                .setSaveConsumer3(saveConsumer(entry))
                                 .build(),
                         entry -> !entry.isAlphaMode(), TextColor.class),
                 GuiProvider.create((Entry<InputUtil.Key> entry) -> ConfigEntryBuilder.create()
                                 .startKeyCodeField(entry.getName(), entry.getValue())
                                 .setDefaultValue(entry.getDefaultValue())
                                 .setTooltip(entry.getDescription().map(description -> new Text[]{description}))
-                                .setKeySaveConsumer(entry::setValue)
+                                .setKeySaveConsumer(saveConsumer(entry))
                                 .build(),
                         InputUtil.Key.class));
     }
@@ -96,14 +96,15 @@ public final class YaclScreenBuilder extends ConfigScreenBuilder<ControllerFunct
 
     @Override
     public Screen build(Screen parentScreen, Config config) {
+        var saveBatch = new SaveBatch(config);
         var configBuilder = YetAnotherConfigLib.createBuilder()
                 .title(getTitle(config))
-                .save(config::save);
+                .save(saveBatch::save);
         if (!config.getEntries().isEmpty()) {
             var categoryBuilder = ConfigCategory.createBuilder()
                     .name(config.getName());
             for (Entry<?> entry : config.getEntries()) {
-                categoryBuilder.option(buildOption(entry));
+                categoryBuilder.option(buildOption(entry, saveBatch));
             }
             configBuilder.category(categoryBuilder.build());
         }
@@ -112,14 +113,14 @@ public final class YaclScreenBuilder extends ConfigScreenBuilder<ControllerFunct
                     .name(cluster.getName());
             cluster.getDescription().ifPresent(categoryBuilder::tooltip);
             for (Entry<?> entry : cluster.getEntries()) {
-                categoryBuilder.option(buildOption(entry));
+                categoryBuilder.option(buildOption(entry, saveBatch));
             }
             for (var subCluster : cluster.getClusters()) {
                 var groupBuilder = OptionGroup.createBuilder()
                         .name(subCluster.getName());
                 subCluster.getDescription().ifPresent(description -> groupBuilder.description(OptionDescription.of(description)));
                 for (Entry<?> entry : subCluster.getEntries()) {
-                    groupBuilder.option(buildOption(entry));
+                    groupBuilder.option(buildOption(entry, saveBatch));
                 }
                 if (!subCluster.getClusters().isEmpty()) {
                     throw new UnsupportedOperationException("YACL screen builder doesn't support more than 2 levels of groups");
@@ -131,10 +132,10 @@ public final class YaclScreenBuilder extends ConfigScreenBuilder<ControllerFunct
         return configBuilder.build().generateScreen(parentScreen);
     }
 
-    private <T> Option<T> buildOption(Entry<T> entry) {
+    private <T> Option<T> buildOption(Entry<T> entry, SaveBatch saveBatch) {
         var builder = Option.<T>createBuilder()
                 .name(entry.getName())
-                .binding(entry.getDefaultValue(), entry::getValue, entry::setValue)
+                .binding(entry.getDefaultValue(), entry::getValue, value -> saveBatch.setValue(entry, value))
                 .controller(option -> ((ControllerFunction<T>) createEntry(entry)).apply(option));
         entry.getDescription().ifPresent(description -> builder.description(OptionDescription.of(description)));
         if (entry.requiresRestart()) {
@@ -143,4 +144,33 @@ public final class YaclScreenBuilder extends ConfigScreenBuilder<ControllerFunct
         return builder.build();
     }
 
+    /**
+     * Collects the values applied by a screen save into a single batch, so listeners are only notified once per save.
+     */
+    private static final class SaveBatch {
+
+        private final Config config;
+        private Config.Batch batch;
+
+        private SaveBatch(Config config) {
+            this.config = config;
+        }
+
+        private <T> void setValue(Entry<T> entry, T value) {
+            if (batch == null) {
+                batch = config.startBatch();
+            }
+            entry.setValue(value);
+        }
+
+        private void save() {
+            if (batch != null) {
+                batch.close();
+                batch = null;
+            }
+            config.save();
+        }
+
+    }
+
 }
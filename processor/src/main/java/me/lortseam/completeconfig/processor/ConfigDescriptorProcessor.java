@@ -0,0 +1,285 @@
+package me.lortseam.completeconfig.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.*;
+
+/**
+ * Generates a descriptor class for every config container class, so that the container's entry fields, transitive
+ * fields and transitive nested classes do not need to be looked up reflectively at runtime. Non-private entry fields
+ * additionally get direct accessors.
+ *
+ * <p>Classes which cannot be referenced from their package, like private or local classes, are skipped and resolved
+ * reflectively at runtime.
+ */
+@SupportedAnnotationTypes("me.lortseam.completeconfig.api.*")
+public final class ConfigDescriptorProcessor extends AbstractProcessor {
+
+    private static final String API_PACKAGE = "me.lortseam.completeconfig.api";
+    private static final String CONFIG_CONTAINER = API_PACKAGE + ".ConfigContainer";
+    private static final String TRANSITIVE = CONFIG_CONTAINER + ".Transitive";
+    private static final String CONFIG_ENTRY = API_PACKAGE + ".ConfigEntry";
+    private static final String CONFIG_ENTRIES = API_PACKAGE + ".ConfigEntries";
+    private static final String EXCLUDE = CONFIG_ENTRIES + ".Exclude";
+    private static final String DESCRIPTOR_INTERFACE = "me.lortseam.completeconfig.data.GeneratedContainerDescriptor";
+    private static final String DESCRIPTOR_SUFFIX = "_ConfigDescriptor";
+    private static final Map<String, Set<TypeKind>> BOUND_TYPES = Map.of(
+            CONFIG_ENTRY + ".BoundedInteger", EnumSet.of(TypeKind.INT),
+            CONFIG_ENTRY + ".BoundedLong", EnumSet.of(TypeKind.LONG),
+            CONFIG_ENTRY + ".BoundedFloat", EnumSet.of(TypeKind.FLOAT),
+            CONFIG_ENTRY + ".BoundedDouble", EnumSet.of(TypeKind.DOUBLE)
+    );
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        TypeElement containerElement = processingEnv.getElementUtils().getTypeElement(CONFIG_CONTAINER);
+        if (containerElement == null) {
+            return false;
+        }
+        Set<TypeElement> containerClasses = new LinkedHashSet<>();
+        for (TypeElement annotation : annotations) {
+            String name = annotation.getQualifiedName().toString();
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (name.equals(CONFIG_ENTRIES) && element instanceof TypeElement) {
+                    containerClasses.add((TypeElement) element);
+                } else if (element.getKind() == ElementKind.FIELD || name.equals(TRANSITIVE) && element instanceof TypeElement) {
+                    if (element.getEnclosingElement() instanceof TypeElement) {
+                        containerClasses.add((TypeElement) element.getEnclosingElement());
+                    }
+                }
+            }
+        }
+        for (TypeElement containerClass : containerClasses) {
+            if (!isReferenceable(containerClass)) continue;
+            generate(containerClass, containerElement.asType());
+        }
+        return false;
+    }
+
+    private boolean isReferenceable(TypeElement type) {
+        Element element = type;
+        while (element instanceof TypeElement) {
+            if (element.getModifiers().contains(Modifier.PRIVATE)) return false;
+            NestingKind nestingKind = ((TypeElement) element).getNestingKind();
+            if (nestingKind != NestingKind.TOP_LEVEL && nestingKind != NestingKind.MEMBER) return false;
+            element = element.getEnclosingElement();
+        }
+        return true;
+    }
+
+    private void generate(TypeElement type, TypeMirror containerType) {
+        boolean includeAll = getIncludeAll(type);
+        List<VariableElement> entryFields = new ArrayList<>();
+        List<VariableElement> transitiveFields = new ArrayList<>();
+        List<TypeElement> transitiveClasses = new ArrayList<>();
+        boolean valid = true;
+        for (Element member : type.getEnclosedElements()) {
+            if (member.getKind() == ElementKind.FIELD) {
+                VariableElement field = (VariableElement) member;
+                boolean isEntry;
+                if (includeAll) {
+                    isEntry = !isAssignable(field.asType(), containerType) && !hasAnnotation(field, EXCLUDE) && !field.getModifiers().contains(Modifier.TRANSIENT);
+                } else {
+                    isEntry = hasAnnotation(field, CONFIG_ENTRY);
+                }
+                if (isEntry) {
+                    if (field.getModifiers().contains(Modifier.FINAL)) {
+                        error(field, "Entry field " + field.getSimpleName() + " must not be final");
+                        valid = false;
+                    }
+                    checkBounds(field);
+                    entryFields.add(field);
+                }
+                if (hasAnnotation(field, TRANSITIVE)) {
+                    if (!isAssignable(field.asType(), containerType)) {
+                        error(field, "Transitive field " + field.getSimpleName() + " must implement ConfigContainer");
+                        valid = false;
+                    }
+                    transitiveFields.add(field);
+                }
+            } else if (member instanceof TypeElement && hasAnnotation(member, TRANSITIVE)) {
+                TypeElement nestedClass = (TypeElement) member;
+                if (!isAssignable(nestedClass.asType(), containerType)) {
+                    error(nestedClass, "Transitive " + nestedClass.getQualifiedName() + " must implement ConfigContainer");
+                    valid = false;
+                } else if (!nestedClass.getModifiers().contains(Modifier.STATIC)) {
+                    error(nestedClass, "Transitive " + nestedClass.getQualifiedName() + " must be static");
+                    valid = false;
+                }
+                transitiveClasses.add(nestedClass);
+            }
+        }
+        if (!valid) return;
+        write(type, entryFields, transitiveFields, transitiveClasses);
+    }
+
+    private void write(TypeElement type, List<VariableElement> entryFields, List<VariableElement> transitiveFields, List<TypeElement> transitiveClasses) {
+        String packageName = processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+        String descriptorName = getNestedName(type) + DESCRIPTOR_SUFFIX;
+        String typeName = processingEnv.getTypeUtils().erasure(type.asType()).toString();
+        try (PrintWriter out = new PrintWriter(processingEnv.getFiler().createSourceFile(packageName.isEmpty() ? descriptorName : packageName + "." + descriptorName, type).openWriter())) {
+            if (!packageName.isEmpty()) {
+                out.println("package " + packageName + ";");
+                out.println();
+            }
+            out.println("@javax.annotation.processing.Generated(\"" + ConfigDescriptorProcessor.class.getName() + "\")");
+            out.println("@SuppressWarnings({\"unchecked\", \"rawtypes\"})");
+            out.println("public final class " + descriptorName + " implements " + DESCRIPTOR_INTERFACE + " {");
+            out.println();
+            out.println("    @Override");
+            out.println("    public String[] getEntryFields() {");
+            out.println("        return new String[] {" + joinNames(entryFields) + "};");
+            out.println("    }");
+            out.println();
+            out.println("    @Override");
+            out.println("    public String[] getTransitiveFields() {");
+            out.println("        return new String[] {" + joinNames(transitiveFields) + "};");
+            out.println("    }");
+            out.println();
+            out.println("    @Override");
+            out.println("    public Class<?>[] getTransitiveClasses() {");
+            StringJoiner classes = new StringJoiner(", ");
+            for (TypeElement transitiveClass : transitiveClasses) {
+                classes.add(processingEnv.getTypeUtils().erasure(transitiveClass.asType()) + ".class");
+            }
+            out.println("        return new Class<?>[] {" + classes + "};");
+            out.println("    }");
+            out.println();
+            out.println("    @Override");
+            out.println("    public " + DESCRIPTOR_INTERFACE + ".Accessor getAccessor(String field) {");
+            out.println("        switch (field) {");
+            for (VariableElement field : entryFields) {
+                if (field.getModifiers().contains(Modifier.PRIVATE)) continue;
+                Optional<String> setter = findSetter(type, field);
+                if (setter == null) continue;
+                boolean isStatic = field.getModifiers().contains(Modifier.STATIC);
+                String target = isStatic ? typeName : "((" + typeName + ") object)";
+                String value = "(" + processingEnv.getTypeUtils().erasure(field.asType()) + ") value";
+                out.println("            case \"" + field.getSimpleName() + "\":");
+                out.println("                return new " + DESCRIPTOR_INTERFACE + ".Accessor() {");
+                out.println("                    @Override");
+                out.println("                    public Object get(Object object) {");
+                out.println("                        return " + target + "." + field.getSimpleName() + ";");
+                out.println("                    }");
+                out.println();
+                out.println("                    @Override");
+                out.println("                    public void set(Object object, Object value) {");
+                if (setter.isPresent()) {
+                    out.println("                        " + target + "." + setter.get() + "(" + value + ");");
+                } else {
+                    out.println("                        " + target + "." + field.getSimpleName() + " = " + value + ";");
+                }
+                out.println("                    }");
+                out.println("                };");
+            }
+            out.println("            default:");
+            out.println("                return null;");
+            out.println("        }");
+            out.println("    }");
+            out.println();
+            out.println("}");
+        } catch (IOException e) {
+            error(type, "Failed to write config descriptor: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Finds the setter method which is used at runtime to set the field value.
+     *
+     * @return the name of the setter method, an empty optional if the field is set directly, or {@code null} if the
+     * setter method cannot be called from the generated class
+     */
+    private Optional<String> findSetter(TypeElement type, VariableElement field) {
+        String name = field.getSimpleName().toString();
+        String setterName = "set" + Character.toTitleCase(name.charAt(0)) + name.substring(1);
+        TypeMirror fieldType = processingEnv.getTypeUtils().erasure(field.asType());
+        for (ExecutableElement method : ElementFilter.methodsIn(type.getEnclosedElements())) {
+            if (!method.getSimpleName().contentEquals(setterName) || method.getParameters().size() != 1) continue;
+            if (!processingEnv.getTypeUtils().isSameType(processingEnv.getTypeUtils().erasure(method.getParameters().get(0).asType()), fieldType)) continue;
+            if (method.getModifiers().contains(Modifier.STATIC) != field.getModifiers().contains(Modifier.STATIC) || method.getReturnType().getKind() != TypeKind.VOID) {
+                return Optional.empty();
+            }
+            return method.getModifiers().contains(Modifier.PRIVATE) ? null : Optional.of(setterName);
+        }
+        return Optional.empty();
+    }
+
+    private void checkBounds(VariableElement field) {
+        TypeMirror type = field.asType();
+        if (!type.getKind().isPrimitive()) {
+            try {
+                type = processingEnv.getTypeUtils().unboxedType(type);
+            } catch (IllegalArgumentException e) {
+                type = null;
+            }
+        }
+        for (AnnotationMirror annotation : field.getAnnotationMirrors()) {
+            Set<TypeKind> validKinds = BOUND_TYPES.get(((TypeElement) annotation.getAnnotationType().asElement()).getQualifiedName().toString());
+            if (validKinds != null && (type == null || !validKinds.contains(type.getKind()))) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING, "Annotation @" + annotation.getAnnotationType().asElement().getSimpleName() + " is not applicable to field " + field.getSimpleName(), field);
+            }
+        }
+    }
+
+    private boolean getIncludeAll(TypeElement type) {
+        for (AnnotationMirror annotation : type.getAnnotationMirrors()) {
+            if (!((TypeElement) annotation.getAnnotationType().asElement()).getQualifiedName().contentEquals(CONFIG_ENTRIES)) continue;
+            for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> value : processingEnv.getElementUtils().getElementValuesWithDefaults(annotation).entrySet()) {
+                if (value.getKey().getSimpleName().contentEquals("includeAll")) {
+                    return (Boolean) value.getValue().getValue();
+                }
+            }
+        }
+        return false;
+    }
+
+    private boolean hasAnnotation(Element element, String annotationName) {
+        for (AnnotationMirror annotation : element.getAnnotationMirrors()) {
+            if (((TypeElement) annotation.getAnnotationType().asElement()).getQualifiedName().contentEquals(annotationName)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isAssignable(TypeMirror type, TypeMirror containerType) {
+        return processingEnv.getTypeUtils().isAssignable(processingEnv.getTypeUtils().erasure(type), containerType);
+    }
+
+    private String getNestedName(TypeElement type) {
+        Deque<String> names = new ArrayDeque<>();
+        Element element = type;
+        while (element instanceof TypeElement) {
+            names.addFirst(element.getSimpleName().toString());
+            element = element.getEnclosingElement();
+        }
+        return String.join("_", names);
+    }
+
+    private String joinNames(List<VariableElement> fields) {
+        StringJoiner joiner = new StringJoiner(", ");
+        for (VariableElement field : fields) {
+            joiner.add("\"" + field.getSimpleName() + "\"");
+        }
+        return joiner.toString();
+    }
+
+    private void error(Element element, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+
+}
@@ -0,0 +1,221 @@
+package me.lortseam.completeconfig.processor;
+
+import com.google.common.truth.StringSubject;
+import com.google.testing.compile.Compilation;
+import com.google.testing.compile.JavaFileObjects;
+import org.junit.jupiter.api.Test;
+
+import javax.tools.JavaFileObject;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.google.testing.compile.CompilationSubject.assertThat;
+import static com.google.testing.compile.Compiler.javac;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ConfigDescriptorProcessorTest {
+
+    // Minimal copies of the API, so the processor can be tested without the base module
+    private static final List<JavaFileObject> API = List.of(
+            JavaFileObjects.forSourceString("me.lortseam.completeconfig.api.ConfigContainer", """
+                    package me.lortseam.completeconfig.api;
+
+                    public interface ConfigContainer {
+
+                        @java.lang.annotation.Target({java.lang.annotation.ElementType.FIELD, java.lang.annotation.ElementType.TYPE})
+                        @interface Transitive {}
+
+                    }
+                    """),
+            JavaFileObjects.forSourceString("me.lortseam.completeconfig.api.ConfigEntry", """
+                    package me.lortseam.completeconfig.api;
+
+                    @java.lang.annotation.Target(java.lang.annotation.ElementType.FIELD)
+                    public @interface ConfigEntry {}
+                    """),
+            JavaFileObjects.forSourceString("me.lortseam.completeconfig.api.ConfigEntries", """
+                    package me.lortseam.completeconfig.api;
+
+                    @java.lang.annotation.Target(java.lang.annotation.ElementType.TYPE)
+                    public @interface ConfigEntries {
+
+                        boolean includeAll() default false;
+
+                        @java.lang.annotation.Target(java.lang.annotation.ElementType.FIELD)
+                        @interface Exclude {}
+
+                    }
+                    """),
+            JavaFileObjects.forSourceString("me.lortseam.completeconfig.data.GeneratedContainerDescriptor", """
+                    package me.lortseam.completeconfig.data;
+
+                    public interface GeneratedContainerDescriptor {
+
+                        String[] getEntryFields();
+
+                        String[] getTransitiveFields();
+
+                        Class<?>[] getTransitiveClasses();
+
+                        Accessor getAccessor(String field);
+
+                        interface Accessor {
+
+                            Object get(Object object);
+
+                            void set(Object object, Object value);
+
+                        }
+
+                    }
+                    """)
+    );
+
+    private static Compilation compile(JavaFileObject... sources) {
+        List<JavaFileObject> files = new ArrayList<>(API);
+        files.addAll(List.of(sources));
+        return javac().withProcessors(new ConfigDescriptorProcessor()).compile(files);
+    }
+
+    private static StringSubject assertThatDescriptor(Compilation compilation, String name) {
+        assertThat(compilation).succeeded();
+        return assertThat(compilation).generatedSourceFile(name).contentsAsUtf8String();
+    }
+
+    @Test
+    public void process_nameNestedDescriptors() {
+        var compilation = compile(JavaFileObjects.forSourceString("test.Outer", """
+                package test;
+
+                import me.lortseam.completeconfig.api.*;
+
+                public class Outer {
+
+                    public static class Inner implements ConfigContainer {
+
+                        @ConfigEntry
+                        int innerEntry;
+
+                    }
+
+                    private static class Hidden implements ConfigContainer {
+
+                        @ConfigEntry
+                        int hiddenEntry;
+
+                    }
+
+                }
+                """));
+        assertThatDescriptor(compilation, "test.Outer_Inner_ConfigDescriptor").contains("{\"innerEntry\"}");
+        assertTrue(compilation.generatedSourceFile("test.Outer_Hidden_ConfigDescriptor").isEmpty());
+    }
+
+    @Test
+    public void process_skipAccessorsOfInaccessibleFields() {
+        var compilation = compile(JavaFileObjects.forSourceString("test.Fields", """
+                package test;
+
+                import me.lortseam.completeconfig.api.*;
+
+                @ConfigEntries(includeAll = true)
+                public class Fields implements ConfigContainer {
+
+                    private int privateEntry;
+                    int packageEntry;
+                    static int staticEntry;
+                    transient int transientField;
+                    @ConfigEntries.Exclude
+                    int excludedField;
+
+                }
+                """));
+        var descriptor = assertThatDescriptor(compilation, "test.Fields_ConfigDescriptor");
+        descriptor.contains("{\"privateEntry\", \"packageEntry\", \"staticEntry\"}");
+        descriptor.doesNotContain("case \"privateEntry\"");
+        descriptor.contains("((test.Fields) object).packageEntry");
+        descriptor.contains("test.Fields.staticEntry");
+    }
+
+    @Test
+    public void process_useSetters() {
+        var compilation = compile(JavaFileObjects.forSourceString("test.Setters", """
+                package test;
+
+                import me.lortseam.completeconfig.api.*;
+
+                public class Setters implements ConfigContainer {
+
+                    @ConfigEntry
+                    int publicSetterEntry;
+                    @ConfigEntry
+                    int privateSetterEntry;
+                    @ConfigEntry
+                    int otherTypeSetterEntry;
+
+                    public void setPublicSetterEntry(int value) {
+                        publicSetterEntry = value;
+                    }
+
+                    private void setPrivateSetterEntry(int value) {
+                        privateSetterEntry = value;
+                    }
+
+                    public void setOtherTypeSetterEntry(String value) {}
+
+                }
+                """));
+        var descriptor = assertThatDescriptor(compilation, "test.Setters_ConfigDescriptor");
+        descriptor.contains("((test.Setters) object).setPublicSetterEntry((int) value);");
+        descriptor.doesNotContain("case \"privateSetterEntry\"");
+        descriptor.contains("((test.Setters) object).otherTypeSetterEntry = (int) value;");
+    }
+
+    @Test
+    public void process_describeOnlyDeclaredFields() {
+        var compilation = compile(JavaFileObjects.forSourceString("test.Base", """
+                package test;
+
+                import me.lortseam.completeconfig.api.*;
+
+                public class Base implements ConfigContainer {
+
+                    @ConfigEntry
+                    int baseEntry;
+
+                }
+                """), JavaFileObjects.forSourceString("test.Sub", """
+                package test;
+
+                import me.lortseam.completeconfig.api.*;
+
+                public class Sub extends Base {
+
+                    @ConfigEntry
+                    int subEntry;
+
+                }
+                """));
+        assertThatDescriptor(compilation, "test.Base_ConfigDescriptor").contains("{\"baseEntry\"}");
+        assertThatDescriptor(compilation, "test.Sub_ConfigDescriptor").contains("{\"subEntry\"}");
+    }
+
+    @Test
+    public void process_failForFinalEntryField() {
+        var compilation = compile(JavaFileObjects.forSourceString("test.Final", """
+                package test;
+
+                import me.lortseam.completeconfig.api.*;
+
+                public class Final implements ConfigContainer {
+
+                    @ConfigEntry
+                    final int finalEntry = 0;
+
+                }
+                """));
+        assertThat(compilation).failed();
+        assertThat(compilation).hadErrorContaining("Entry field finalEntry must not be final");
+    }
+
+}